@@ -0,0 +1,225 @@
+package io.github.cuisse.nbt.benchmark;
+
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Realistic NBT payloads used by the benchmarks.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public enum Corpus {
+
+    /**
+     * A chunk-sized compound with sections, palettes, light arrays, entities and block entities.
+     */
+    CHUNK {
+        @Override
+        NamedTag create(SplittableRandom random) {
+            var sections = new ArrayList<Tag>();
+            for (int y = -4; y < 20; y++) {
+                var palette = new ArrayList<Tag>();
+                for (int i = 0; i < 16; i++) {
+                    palette.add(compound(
+                            "Name", StringTag.create(BLOCKS[random.nextInt(BLOCKS.length)]),
+                            "Properties", compound(
+                                    "facing", StringTag.create("north"),
+                                    "waterlogged", StringTag.create("false")
+                            )
+                    ));
+                }
+                sections.add(compound(
+                        "Y", ByteTag.create((byte) y),
+                        "block_states", compound(
+                                "palette", ListTag.create(TagType.TAG_Compound, palette),
+                                "data", LongArrayTag.create(longs(random, 256))
+                        ),
+                        "BlockLight", ByteArrayTag.create(bytes(random, 2048)),
+                        "SkyLight", ByteArrayTag.create(bytes(random, 2048))
+                ));
+            }
+            var entities = new ArrayList<Tag>();
+            for (int i = 0; i < 24; i++) {
+                entities.add(entity(random));
+            }
+            var blockEntities = new ArrayList<Tag>();
+            for (int i = 0; i < 8; i++) {
+                blockEntities.add(compound(
+                        "id", StringTag.create("minecraft:chest"),
+                        "x", IntTag.create(random.nextInt(-30_000_000, 30_000_000)),
+                        "y", IntTag.create(random.nextInt(-64, 320)),
+                        "z", IntTag.create(random.nextInt(-30_000_000, 30_000_000)),
+                        "Items", items(random, 27)
+                ));
+            }
+            return new NamedTag("", compound(
+                    "DataVersion", IntTag.create(3465),
+                    "xPos", IntTag.create(random.nextInt(-1000, 1000)),
+                    "zPos", IntTag.create(random.nextInt(-1000, 1000)),
+                    "yPos", IntTag.create(-4),
+                    "Status", StringTag.create("minecraft:full"),
+                    "LastUpdate", LongTag.create(random.nextLong(0, 10_000_000)),
+                    "InhabitedTime", LongTag.create(random.nextLong(0, 10_000_000)),
+                    "Heightmaps", compound(
+                            "MOTION_BLOCKING", LongArrayTag.create(longs(random, 37)),
+                            "MOTION_BLOCKING_NO_LEAVES", LongArrayTag.create(longs(random, 37)),
+                            "OCEAN_FLOOR", LongArrayTag.create(longs(random, 37)),
+                            "WORLD_SURFACE", LongArrayTag.create(longs(random, 37))
+                    ),
+                    "sections", ListTag.create(TagType.TAG_Compound, sections),
+                    "entities", ListTag.create(TagType.TAG_Compound, entities),
+                    "block_entities", ListTag.create(TagType.TAG_Compound, blockEntities)
+            ));
+        }
+    },
+
+    /**
+     * A compound holding a single large {@code TAG_Long_Array}, like a block-state palette.
+     */
+    LONG_ARRAY {
+        @Override
+        NamedTag create(SplittableRandom random) {
+            return new NamedTag("", compound(
+                    "data", LongArrayTag.create(longs(random, 32768))
+            ));
+        }
+    },
+
+    /**
+     * A string-heavy list of item stacks with display names, lore and enchantments.
+     */
+    ITEMS {
+        @Override
+        NamedTag create(SplittableRandom random) {
+            return new NamedTag("", compound(
+                    "Inventory", items(random, 512)
+            ));
+        }
+    },
+
+    /**
+     * Deeply nested lists and compounds.
+     */
+    NESTED {
+        @Override
+        NamedTag create(SplittableRandom random) {
+            Tag tag = IntArrayTag.create(new int[] { random.nextInt(), random.nextInt() });
+            for (int depth = 0; depth < 200; depth++) {
+                if (depth % 2 == 0) {
+                    tag = ListTag.create(tag.type(), List.of(tag));
+                } else {
+                    tag = compound("value", tag, "depth", IntTag.create(depth));
+                }
+            }
+            return new NamedTag("", compound("root", tag));
+        }
+    };
+
+    private static final String[] BLOCKS = {
+            "minecraft:stone", "minecraft:dirt", "minecraft:grass_block", "minecraft:deepslate",
+            "minecraft:water", "minecraft:air", "minecraft:oak_log", "minecraft:iron_ore"
+    };
+
+    private static final String[] ITEMS_IDS = {
+            "minecraft:diamond_sword", "minecraft:bread", "minecraft:torch", "minecraft:cobblestone",
+            "minecraft:iron_pickaxe", "minecraft:oak_planks", "minecraft:arrow", "minecraft:bow"
+    };
+
+    abstract NamedTag create(SplittableRandom random);
+
+    /**
+     * Creates the payload of this corpus, always the same for a given corpus.
+     *
+     * @return the payload of this corpus.
+     */
+    public NamedTag create() {
+        return create(new SplittableRandom(ordinal() * 31L + 7));
+    }
+
+    private static CompoundTag compound(Object... entries) {
+        Map<String, Tag> map = new HashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], (Tag) entries[i + 1]);
+        }
+        return CompoundTag.create(map);
+    }
+
+    private static CompoundTag entity(SplittableRandom random) {
+        return compound(
+                "id", StringTag.create("minecraft:zombie"),
+                "Pos", ListTag.create(TagType.TAG_Double, List.of(
+                        DoubleTag.create(random.nextDouble(-1000, 1000)),
+                        DoubleTag.create(random.nextDouble(-64, 320)),
+                        DoubleTag.create(random.nextDouble(-1000, 1000))
+                )),
+                "Motion", ListTag.create(TagType.TAG_Double, List.of(
+                        DoubleTag.create(random.nextDouble()),
+                        DoubleTag.create(random.nextDouble()),
+                        DoubleTag.create(random.nextDouble())
+                )),
+                "Rotation", ListTag.create(TagType.TAG_Float, List.of(
+                        FloatTag.create((float) random.nextDouble(360)),
+                        FloatTag.create((float) random.nextDouble(-90, 90))
+                )),
+                "Health", FloatTag.create(20f),
+                "Air", ShortTag.create((short) 300),
+                "OnGround", ByteTag.create((byte) 1),
+                "UUID", IntArrayTag.create(new int[] { random.nextInt(), random.nextInt(), random.nextInt(), random.nextInt() }),
+                "ArmorItems", items(random, 4),
+                "HandItems", items(random, 2)
+        );
+    }
+
+    private static ListTag items(SplittableRandom random, int count) {
+        var items = new ArrayList<Tag>();
+        for (int i = 0; i < count; i++) {
+            var lore = new ArrayList<Tag>();
+            for (int j = 0; j < 3; j++) {
+                lore.add(StringTag.create("{\"text\":\"Line " + j + " of item " + i + "\",\"italic\":false}"));
+            }
+            items.add(compound(
+                    "Slot", ByteTag.create((byte) i),
+                    "id", StringTag.create(ITEMS_IDS[random.nextInt(ITEMS_IDS.length)]),
+                    "Count", ByteTag.create((byte) random.nextInt(1, 65)),
+                    "tag", compound(
+                            "Damage", IntTag.create(random.nextInt(0, 250)),
+                            "display", compound(
+                                    "Name", StringTag.create("{\"text\":\"Item " + i + "\"}"),
+                                    "Lore", ListTag.create(TagType.TAG_String, lore)
+                            ),
+                            "Enchantments", ListTag.create(TagType.TAG_Compound, List.of(
+                                    compound("id", StringTag.create("minecraft:sharpness"), "lvl", ShortTag.create((short) 5)),
+                                    compound("id", StringTag.create("minecraft:unbreaking"), "lvl", ShortTag.create((short) 3))
+                            ))
+                    )
+            ));
+        }
+        return ListTag.create(TagType.TAG_Compound, items);
+    }
+
+    private static long[] longs(SplittableRandom random, int length) {
+        long[] longs = new long[length];
+        for (int i = 0; i < length; i++) {
+            longs[i] = random.nextLong();
+        }
+        return longs;
+    }
+
+    private static byte[] bytes(SplittableRandom random, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) random.nextInt();
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.github.cuisse.nbt.benchmark;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Helpers for preparing encoded benchmark inputs.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class Encoding {
+
+    static byte[] encode(NamedTag tag, NBTStream stream, boolean compressed) {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = NBT.output(stream, bytes, compressed)) {
+            NBT.writer().write(output, tag);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Encoding() {
+        // nope
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.github.cuisse.nbt.benchmark;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.io.NBTStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link io.github.cuisse.nbt.io.SimpleNBTReader}.
+ * <p>
+ * Run with {@code -prof gc} to also report the allocation rate.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReadBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    @Param
+    public NBTStream stream;
+
+    @Param({ "false", "true" })
+    public boolean compressed;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() {
+        data = Encoding.encode(corpus.create(), stream, compressed);
+    }
+
+    @Benchmark
+    public NamedTag read() {
+        return NBT.reader().read(NBT.input(stream, data, compressed));
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.github.cuisse.nbt.benchmark;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.io.NBTCompression;
+import io.github.cuisse.nbt.io.NBTStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link io.github.cuisse.nbt.io.SimpleNBTWriter}.
+ * <p>
+ * Run with {@code -prof gc} to also report the allocation rate.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WriteBenchmark {
+
+    @Param
+    public Corpus corpus;
+
+    @Param
+    public NBTStream stream;
+
+    @Param({ "false", "true" })
+    public boolean compressed;
+
+    private NamedTag tag;
+
+    @Setup
+    public void setup() {
+        tag = corpus.create();
+    }
+
+    @Benchmark
+    public void write() {
+        try (var output = NBT.bufferedOutput(stream, OutputStream.nullOutputStream(), NBTCompression.of(compressed))) {
+            NBT.writer().write(output, tag);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+}
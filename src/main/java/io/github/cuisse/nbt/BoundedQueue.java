@@ -0,0 +1,68 @@
+package io.github.cuisse.nbt;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free queue holding at most a fixed number of elements, used to pool reusable objects
+ * such as buffers and inflaters across threads.
+ * <p>
+ * An element offered while the queue is full is refused, so that the caller can dispose of it
+ * instead of keeping it. This class is thread-safe.
+ *
+ * @param <T> the type of the elements.
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class BoundedQueue<T> {
+
+    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    /**
+     * Creates a new queue holding at most the specified number of elements.
+     *
+     * @param capacity the maximum number of elements.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public BoundedQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity < 0");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Removes and returns the oldest element of this queue.
+     *
+     * @return the oldest element, or null if the queue is empty.
+     */
+    public T poll() {
+        T value = queue.poll();
+        if (value != null) {
+            size.decrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Adds the specified element to this queue, unless it is full.
+     *
+     * @param value the element to add.
+     * @return whether the element has been added.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean offer(T value) {
+        if (value == null) {
+            throw new NullPointerException("value == null");
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(value);
+        return true;
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.github.cuisse.nbt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A pool of same-sized {@link ByteBuffer} chunks, used by {@link ChunkedByteBufferOutputStream}.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public interface ByteBufferPool {
+
+    /**
+     * Creates a new pool of heap buffers.
+     *
+     * @param chunkSize the capacity of the buffers.
+     * @param maxRetained the maximum number of released buffers kept for reuse.
+     * @return the new pool.
+     * @throws IllegalArgumentException if the chunk size is not positive or the maximum is negative.
+     */
+    static ByteBufferPool heap(int chunkSize, int maxRetained) {
+        return new ChunkPool(chunkSize, maxRetained, false);
+    }
+
+    /**
+     * Creates a new pool of direct buffers, which are costly to allocate and therefore worth reusing.
+     *
+     * @param chunkSize the capacity of the buffers.
+     * @param maxRetained the maximum number of released buffers kept for reuse.
+     * @return the new pool.
+     * @throws IllegalArgumentException if the chunk size is not positive or the maximum is negative.
+     */
+    static ByteBufferPool direct(int chunkSize, int maxRetained) {
+        return new ChunkPool(chunkSize, maxRetained, true);
+    }
+
+    /**
+     * Returns the capacity of the buffers of this pool.
+     *
+     * @return the capacity of the buffers.
+     */
+    int chunkSize();
+
+    /**
+     * Returns an empty buffer of {@link #chunkSize()} bytes, reusing a released one if possible.
+     *
+     * @return an empty buffer.
+     */
+    ByteBuffer acquire();
+
+    /**
+     * Gives a buffer acquired from this pool back to it. The buffer must not be used afterward.
+     *
+     * @param buffer the buffer to release.
+     */
+    void release(ByteBuffer buffer);
+
+}
@@ -0,0 +1,51 @@
+package io.github.cuisse.nbt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded {@link ByteBufferPool} backed by a {@link BoundedQueue}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class ChunkPool implements ByteBufferPool {
+
+    private final BoundedQueue<ByteBuffer> buffers;
+    private final int chunkSize;
+    private final boolean direct;
+
+    ChunkPool(int chunkSize, int maxRetained, boolean direct) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        if (maxRetained < 0) {
+            throw new IllegalArgumentException("maxRetained < 0");
+        }
+        this.buffers   = new BoundedQueue<>(maxRetained);
+        this.chunkSize = chunkSize;
+        this.direct    = direct;
+    }
+
+    @Override
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+        }
+        return buffer.clear();
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != chunkSize || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            throw new IllegalArgumentException("Buffer does not belong to this pool");
+        }
+        buffers.offer(buffer); // dropped once the pool is full
+    }
+
+}
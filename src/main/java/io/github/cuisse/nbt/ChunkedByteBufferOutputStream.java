@@ -0,0 +1,164 @@
+package io.github.cuisse.nbt;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * OutputStream implementation that writes to chunks acquired from a {@link ByteBufferPool} as it grows.
+ * <p>
+ * Unlike {@link ByteBufferOutputStream}, the size of the data does not need to be known in advance:
+ * a new chunk is acquired whenever the last one is full, and nothing is ever copied to grow. The
+ * written chunks can be sent as they are with {@link #writeTo(GatheringByteChannel)}, or obtained
+ * with {@link #toByteBuffers()}. Closing the stream keeps its chunks, they are given back to the
+ * pool by {@link #release()}.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class ChunkedByteBufferOutputStream extends OutputStream {
+
+    private final ByteBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer current;
+    private long size;
+
+    /**
+     * Creates a new ChunkedByteBufferOutputStream that acquires its chunks from the specified pool.
+     *
+     * @param pool the pool of chunks.
+     * @throws NullPointerException if the pool is null.
+     */
+    public ChunkedByteBufferOutputStream(ByteBufferPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("pool == null");
+        } else {
+            this.pool = pool;
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return the number of written bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void write(int b) {
+        if (current == null || !current.hasRemaining()) {
+            next();
+        }
+        current.put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int off, int length) {
+        Objects.checkFromIndexSize(off, length, bytes.length);
+        while (length > 0) {
+            if (current == null || !current.hasRemaining()) {
+                next();
+            }
+            int count = Math.min(length, current.remaining());
+            current.put(bytes, off, count);
+            off    += count;
+            length -= count;
+            size   += count;
+        }
+    }
+
+    /**
+     * Returns views over the written bytes of each chunk, which are valid until the next
+     * write or {@link #release()}.
+     *
+     * @return the written bytes, in order.
+     */
+    public ByteBuffer[] toByteBuffers() {
+        var buffers = new ByteBuffer[chunks.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            var chunk = chunks.get(i);
+            buffers[i] = chunk.duplicate().flip();
+        }
+        return buffers;
+    }
+
+    /**
+     * Returns a copy of the written bytes.
+     *
+     * @return a copy of the written bytes.
+     * @throws NBTException if there are more bytes than an array can hold.
+     */
+    public byte[] toByteArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new NBTException("Too many bytes for an array: " + size);
+        }
+        var bytes = new byte[(int) size];
+        int offset = 0;
+        for (ByteBuffer buffer : toByteBuffers()) {
+            int length = buffer.remaining();
+            buffer.get(bytes, offset, length);
+            offset += length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes all the written bytes to the specified channel, without copying them.
+     * <p>
+     * The channel must be in blocking mode, since this method only returns once every byte
+     * has been written; a non-blocking channel would make it spin until the channel is ready.
+     *
+     * @param channel the channel to write to.
+     * @return the number of bytes written to the channel.
+     * @throws IllegalBlockingModeException if the channel is in non-blocking mode.
+     * @throws IOException if the channel fails.
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+        var buffers = toByteBuffers();
+        long written = 0;
+        while (written < size) {
+            written += channel.write(buffers);
+        }
+        return written;
+    }
+
+    /**
+     * Gives every chunk back to the pool, leaving this stream empty and ready to be reused.
+     */
+    public void release() {
+        for (ByteBuffer chunk : chunks) {
+            pool.release(chunk);
+        }
+        chunks.clear();
+        current = null;
+        size = 0;
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() {
+        // The chunks are kept until they are released.
+    }
+
+    private void next() {
+        current = pool.acquire();
+        chunks.add(current);
+    }
+
+}
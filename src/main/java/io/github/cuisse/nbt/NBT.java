@@ -1,23 +1,45 @@
 package io.github.cuisse.nbt;
 
+import io.github.cuisse.nbt.io.AsyncNBTFiles;
+import io.github.cuisse.nbt.io.BigEndianNBTInputBuffer;
 import io.github.cuisse.nbt.io.BigEndianNBTInputStream;
+import io.github.cuisse.nbt.io.BigEndianNBTOutputBuffer;
 import io.github.cuisse.nbt.io.BigEndianNBTOutputStream;
+import io.github.cuisse.nbt.io.LittleEndianNBTInputBuffer;
 import io.github.cuisse.nbt.io.LittleEndianNBTInputStream;
+import io.github.cuisse.nbt.io.LittleEndianNBTOutputBuffer;
 import io.github.cuisse.nbt.io.LittleEndianNBTOutputStream;
+import io.github.cuisse.nbt.io.NBTCompression;
+import io.github.cuisse.nbt.io.NBTContext;
 import io.github.cuisse.nbt.io.NBTInput;
 import io.github.cuisse.nbt.io.NBTOutput;
+import io.github.cuisse.nbt.io.NBTPublisher;
 import io.github.cuisse.nbt.io.NBTReader;
 import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.NBTTagIterator;
 import io.github.cuisse.nbt.io.NBTWriter;
 import io.github.cuisse.nbt.io.SimpleNBTReader;
 import io.github.cuisse.nbt.io.SimpleNBTWriter;
+import io.github.cuisse.nbt.io.VarIntNBTInputBuffer;
 import io.github.cuisse.nbt.io.VarIntNBTInputStream;
+import io.github.cuisse.nbt.io.VarIntNBTOutputBuffer;
 import io.github.cuisse.nbt.io.VarIntNBTOutputStream;
+import io.github.cuisse.nbt.tags.StringTag;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class NBT {
 
@@ -49,28 +71,64 @@ public final class NBT {
      * @return a new NBT reader.
      */
     public static NBTInput input(NBTStream type, byte[] data, boolean compressed) {
-        var stream = new ByteArrayInputStream(data);
+        return input(type, data, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new NBT reader.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @param compression the compression of the data.
+     * @return a new NBT reader.
+     */
+    public static NBTInput input(NBTStream type, byte[] data, NBTCompression compression) {
+        if (compression != NBTCompression.NONE) {
+            data = decompress(compression, new ByteArrayInputStream(data));
+        }
         return switch (type) {
-            case LITTLE_ENDIAN -> new LittleEndianNBTInputStream(stream, compressed);
-            case BIG_ENDIAN    -> new BigEndianNBTInputStream(stream, compressed);
-            case VARINT        -> new VarIntNBTInputStream(stream, compressed);
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputBuffer(data);
+            case BIG_ENDIAN    -> new BigEndianNBTInputBuffer(data);
+            case VARINT        -> new VarIntNBTInputBuffer(data);
         };
     }
 
     /**
      * Creates a new NBT reader.
-     * 
+     * <p>
+     * Uncompressed data is read in place, and the position of the buffer is advanced past each
+     * value as it is read, so that the tags following the one read stay in the buffer. Compressed
+     * data is decompressed at once, consuming every remaining byte of the buffer.
+     *
      * @param type the NBT stream type.
      * @param data the NBT data.
      * @param compressed whether the data is compressed.
      * @return a new NBT reader.
      */
     public static NBTInput input(NBTStream type, ByteBuffer data, boolean compressed) {
-        var stream = new ByteBufferInputStream(data);
+        return input(type, data, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new NBT reader.
+     * <p>
+     * Uncompressed data is read in place, and the position of the buffer is advanced past each
+     * value as it is read, so that the tags following the one read stay in the buffer. Compressed
+     * data is decompressed at once, consuming every remaining byte of the buffer.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @param compression the compression of the data.
+     * @return a new NBT reader.
+     */
+    public static NBTInput input(NBTStream type, ByteBuffer data, NBTCompression compression) {
+        if (compression != NBTCompression.NONE) {
+            data = ByteBuffer.wrap(decompress(compression, new ByteBufferInputStream(data)));
+        }
         return switch (type) {
-            case LITTLE_ENDIAN -> new LittleEndianNBTInputStream(stream, compressed);
-            case BIG_ENDIAN    -> new BigEndianNBTInputStream(stream, compressed);
-            case VARINT        -> new VarIntNBTInputStream(stream, compressed);
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputBuffer(data);
+            case BIG_ENDIAN    -> new BigEndianNBTInputBuffer(data);
+            case VARINT        -> new VarIntNBTInputBuffer(data);
         };
     }
 
@@ -83,10 +141,22 @@ public final class NBT {
      * @return a new NBT reader.
      */
     public static NBTInput input(NBTStream type, InputStream stream, boolean compressed) {
+        return input(type, stream, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new NBT reader.
+     *
+     * @param type the NBT stream type.
+     * @param stream the input stream.
+     * @param compression the compression of the data.
+     * @return a new NBT reader.
+     */
+    public static NBTInput input(NBTStream type, InputStream stream, NBTCompression compression) {
         return switch (type) {
-            case LITTLE_ENDIAN -> new LittleEndianNBTInputStream(stream, compressed);
-            case BIG_ENDIAN    -> new BigEndianNBTInputStream(stream, compressed);
-            case VARINT        -> new VarIntNBTInputStream(stream, compressed);
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputStream(stream, compression);
+            case BIG_ENDIAN    -> new BigEndianNBTInputStream(stream, compression);
+            case VARINT        -> new VarIntNBTInputStream(stream, compression);
         };
     }
 
@@ -99,11 +169,23 @@ public final class NBT {
      * @return a new NBT writer.
      */
     public static NBTOutput output(NBTStream type, ByteBuffer data, boolean compressed) {
+        return output(type, data, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new NBT writer.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @param compression the compression applied to the data.
+     * @return a new NBT writer.
+     */
+    public static NBTOutput output(NBTStream type, ByteBuffer data, NBTCompression compression) {
         var stream = new ByteBufferOutputStream(data);
         return switch (type) {
-            case LITTLE_ENDIAN -> new LittleEndianNBTOutputStream(stream, compressed);
-            case BIG_ENDIAN    -> new BigEndianNBTOutputStream(stream, compressed);
-            case VARINT        -> new VarIntNBTOutputStream(stream, compressed);
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputStream(stream, compression);
+            case BIG_ENDIAN    -> new BigEndianNBTOutputStream(stream, compression);
+            case VARINT        -> new VarIntNBTOutputStream(stream, compression);
         };
     }
 
@@ -116,13 +198,212 @@ public final class NBT {
      * @return a new NBT writer.
      */
     public static NBTOutput output(NBTStream type, OutputStream stream, boolean compressed) {
+        return output(type, stream, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new NBT writer.
+     *
+     * @param type the NBT stream type.
+     * @param stream the output stream.
+     * @param compression the compression applied to the data.
+     * @return a new NBT writer.
+     */
+    public static NBTOutput output(NBTStream type, OutputStream stream, NBTCompression compression) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputStream(stream, compression);
+            case BIG_ENDIAN    -> new BigEndianNBTOutputStream(stream, compression);
+            case VARINT        -> new VarIntNBTOutputStream(stream, compression);
+        };
+    }
+
+    /**
+     * Creates a new buffered NBT writer.
+     * <p>
+     * The data is buffered and pushed to the stream in large chunks, the writer must be
+     * flushed or closed once the tags have been written. Closing the writer closes the stream.
+     *
+     * @param type the NBT stream type.
+     * @param stream the output stream.
+     * @param compression the compression applied to the data.
+     * @return a new buffered NBT writer.
+     */
+    public static LittleEndianNBTOutputBuffer bufferedOutput(NBTStream type, OutputStream stream, NBTCompression compression) {
         return switch (type) {
-            case LITTLE_ENDIAN -> new LittleEndianNBTOutputStream(stream, compressed);
-            case BIG_ENDIAN    -> new BigEndianNBTOutputStream(stream, compressed);
-            case VARINT        -> new VarIntNBTOutputStream(stream, compressed);
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputBuffer(stream, compression);
+            case BIG_ENDIAN    -> new BigEndianNBTOutputBuffer(stream, compression);
+            case VARINT        -> new VarIntNBTOutputBuffer(stream, compression);
         };
     }
 
+    /**
+     * Creates a new NBT writer that encodes into a growable buffer.
+     *
+     * @param type the NBT stream type.
+     * @return a new NBT writer.
+     */
+    public static LittleEndianNBTOutputBuffer output(NBTStream type) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputBuffer();
+            case BIG_ENDIAN    -> new BigEndianNBTOutputBuffer();
+            case VARINT        -> new VarIntNBTOutputBuffer();
+        };
+    }
+
+    /**
+     * Returns the number of bytes the specified tag takes once written with {@link NBTWriter#write(NBTOutput, Tag)},
+     * so that a buffer of the exact size can be allocated before writing it.
+     * <p>
+     * The sizes of compound and list tags are cached, computing the size of a tag again is cheap
+     * as long as its compound and list tags are reused.
+     *
+     * @param tag the tag to measure.
+     * @param type the NBT stream type.
+     * @return the encoded size of the tag.
+     */
+    public static int sizeOf(Tag tag, NBTStream type) {
+        return Byte.BYTES + tag.encodedSize(type);
+    }
+
+    /**
+     * Returns the number of bytes the specified named tag takes once written with {@link NBTWriter#write(NBTOutput, NamedTag)}.
+     *
+     * @param tag the named tag to measure.
+     * @param type the NBT stream type.
+     * @return the encoded size of the named tag.
+     * @see #sizeOf(Tag, NBTStream)
+     */
+    public static int sizeOf(NamedTag tag, NBTStream type) {
+        return Byte.BYTES + StringTag.create(tag.name()).encodedSize(type) + tag.tag().encodedSize(type);
+    }
+
+    /**
+     * Returns the context of the current thread, whose inputs and outputs are reused across calls.
+     *
+     * @return the context of the current thread.
+     * @see NBTContext
+     */
+    public static NBTContext context() {
+        return NBTContext.get();
+    }
+
+    /**
+     * Returns a stream of the root tags written one after the other in the specified stream.
+     * <p>
+     * Tags are read as the stream is consumed, which ends when the data ends between two tags.
+     * The returned stream must be closed, which closes the source.
+     *
+     * @param type the NBT stream type.
+     * @param stream the stream to read from.
+     * @param compression the compression of the whole stream.
+     * @return a stream of the tags.
+     * @throws NBTException if the compression header cannot be read.
+     * @see NBTTagIterator
+     */
+    public static Stream<NamedTag> stream(NBTStream type, InputStream stream, NBTCompression compression) {
+        return stream(new NBTTagIterator(type, stream, compression));
+    }
+
+    /**
+     * Returns a stream of the root tags written one after the other in the specified channel,
+     * which must be in blocking mode.
+     * <p>
+     * Tags are read as the stream is consumed, which ends when the data ends between two tags.
+     * The returned stream must be closed, which closes the source.
+     *
+     * @param type the NBT stream type.
+     * @param channel the channel to read from.
+     * @param compression the compression of the whole channel.
+     * @return a stream of the tags.
+     * @throws NBTException if the compression header cannot be read.
+     * @see NBTTagIterator
+     */
+    public static Stream<NamedTag> stream(NBTStream type, ReadableByteChannel channel, NBTCompression compression) {
+        return stream(new NBTTagIterator(type, channel, compression));
+    }
+
+    /**
+     * Returns a publisher of the root tags written one after the other in the specified stream,
+     * which are read on the executor as the subscriber requests them.
+     *
+     * @param type the NBT stream type.
+     * @param stream the stream to read from.
+     * @param compression the compression of the whole stream.
+     * @param executor the executor reading the tags and calling the subscriber.
+     * @return a publisher of the tags.
+     * @throws NBTException if the compression header cannot be read.
+     * @see NBTPublisher
+     */
+    public static Flow.Publisher<NamedTag> publisher(NBTStream type, InputStream stream, NBTCompression compression, Executor executor) {
+        return new NBTPublisher(new NBTTagIterator(type, stream, compression), executor);
+    }
+
+    /**
+     * Returns a publisher of the root tags written one after the other in the specified channel,
+     * which must be in blocking mode, and are read on the executor as the subscriber requests them.
+     *
+     * @param type the NBT stream type.
+     * @param channel the channel to read from.
+     * @param compression the compression of the whole channel.
+     * @param executor the executor reading the tags and calling the subscriber.
+     * @return a publisher of the tags.
+     * @throws NBTException if the compression header cannot be read.
+     * @see NBTPublisher
+     */
+    public static Flow.Publisher<NamedTag> publisher(NBTStream type, ReadableByteChannel channel, NBTCompression compression, Executor executor) {
+        return new NBTPublisher(new NBTTagIterator(type, channel, compression), executor);
+    }
+
+    /**
+     * Reads the named tag of the specified file in the background, on a virtual thread.
+     *
+     * @param path the file to read.
+     * @param type the NBT stream type.
+     * @param compression the compression of the file.
+     * @return a future completed with the tag, or with a {@link NBTException} if the file cannot be read.
+     * @see AsyncNBTFiles
+     */
+    public static CompletableFuture<NamedTag> readAsync(Path path, NBTStream type, NBTCompression compression) {
+        return AsyncFiles.DEFAULT.read(path, type, compression);
+    }
+
+    /**
+     * Writes the specified named tag to the specified file in the background, on a virtual thread.
+     * The file is replaced at once when the tag has been written.
+     *
+     * @param path the file to write.
+     * @param type the NBT stream type.
+     * @param compression the compression of the file.
+     * @param tag the tag to write.
+     * @return a future completed once the file has been written, or with a {@link NBTException} if it cannot be.
+     * @see AsyncNBTFiles
+     */
+    public static CompletableFuture<Void> writeAsync(Path path, NBTStream type, NBTCompression compression, NamedTag tag) {
+        return AsyncFiles.DEFAULT.write(path, type, compression, tag);
+    }
+
+    private static Stream<NamedTag> stream(NBTTagIterator tags) {
+        var spliterator = Spliterators.spliteratorUnknownSize(tags, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(tags::close);
+    }
+
+    private static byte[] decompress(NBTCompression compression, InputStream stream) {
+        try (var input = compression.decompress(stream)) {
+            return input.readAllBytes();
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Holds the files accessed by {@link #readAsync} and {@link #writeAsync}, created on first use.
+     */
+    private static final class AsyncFiles {
+
+        static final AsyncNBTFiles DEFAULT = new AsyncNBTFiles();
+
+    }
+
     private NBT() {
         // nope
     }
@@ -1,5 +1,6 @@
 package io.github.cuisse.nbt;
 
+import io.github.cuisse.nbt.io.NBTStream;
 import io.github.cuisse.nbt.tags.*;
 
 import java.util.ArrayList;
@@ -31,6 +32,23 @@ public interface Tag extends Comparable<Tag> {
      */
     TagType type();
 
+    /**
+     * Returns the number of bytes of the payload of this tag once encoded in the specified format,
+     * without its type and name.
+     * <p>
+     * The default implementation encodes the tag to measure it. The tags of this library compute
+     * their size directly, and compound and list tags cache it.
+     *
+     * @param stream the NBT stream type.
+     * @return the encoded size of the payload of this tag.
+     * @since 2.1.0
+     */
+    default int encodedSize(NBTStream stream) {
+        var output = NBT.output(stream);
+        NBT.writer().write(output, this, MAX_DEPTH);
+        return output.size();
+    }
+
     /**
      * Returns the hash code of the tag.
      *
@@ -0,0 +1,202 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.ByteBufferPool;
+import io.github.cuisse.nbt.ChunkedByteBufferOutputStream;
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Reads and writes NBT files in the background, each on its own virtual thread, so that saving
+ * thousands of files does not hold the calling thread nor a pool of platform threads.
+ * <p>
+ * At most a fixed number of files are read or written at the same time, the other operations
+ * wait for their turn on their virtual thread. Files are accessed with positional
+ * {@link FileChannel} reads and writes through pooled direct buffers, and tags are decoded
+ * and encoded with {@link IterativeNBTReader} and {@link IterativeNBTWriter}, whose stack does
+ * not grow with the nesting of the data.
+ * <p>
+ * A file is written to a temporary file next to it, which is flushed to the disk and then replaces
+ * it, so that it is never left half written, even by a crash; concurrent writes of the same file are
+ * not ordered.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class AsyncNBTFiles {
+
+    /**
+     * The default maximum number of files read or written at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final Semaphore permits;
+    private final ByteBufferPool pool;
+    private final ThreadFactory threads = Thread.ofVirtual().name("nbt-io-", 0).factory();
+    private final NBTReader reader = new IterativeNBTReader();
+    private final NBTWriter writer = new IterativeNBTWriter();
+
+    /**
+     * Creates a new instance that accesses at most {@value #DEFAULT_MAX_CONCURRENCY} files at the same time.
+     */
+    public AsyncNBTFiles() {
+        this(DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Creates a new instance that accesses at most the specified number of files at the same time.
+     *
+     * @param maxConcurrency the maximum number of files read or written at the same time.
+     * @throws IllegalArgumentException if the maximum is not positive.
+     */
+    public AsyncNBTFiles(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Invalid max concurrency: " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency);
+        this.pool    = ByteBufferPool.direct(CHUNK_SIZE, maxConcurrency);
+    }
+
+    /**
+     * Reads the named tag of the specified file in the background.
+     *
+     * @param path the file to read.
+     * @param type the NBT stream type.
+     * @param compression the compression of the file.
+     * @return a future completed with the tag, or with a {@link NBTException} if the file cannot be read.
+     * @throws NullPointerException if an argument is null.
+     */
+    public CompletableFuture<NamedTag> read(Path path, NBTStream type, NBTCompression compression) {
+        if (path == null || type == null || compression == null) {
+            throw new NullPointerException("path, type and compression cannot be null");
+        }
+        return submit(() -> readNow(path, type, compression));
+    }
+
+    /**
+     * Writes the specified named tag to the specified file in the background, replacing its content.
+     *
+     * @param path the file to write.
+     * @param type the NBT stream type.
+     * @param compression the compression of the file.
+     * @param tag the tag to write.
+     * @return a future completed once the file has been written, or with a {@link NBTException} if it cannot be.
+     * @throws NullPointerException if an argument is null.
+     */
+    public CompletableFuture<Void> write(Path path, NBTStream type, NBTCompression compression, NamedTag tag) {
+        if (path == null || type == null || compression == null || tag == null) {
+            throw new NullPointerException("path, type, compression and tag cannot be null");
+        }
+        return submit(() -> {
+            writeNow(path, type, compression, tag);
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Task<T> task) {
+        var future = new CompletableFuture<T>();
+        threads.newThread(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                future.completeExceptionally(exception);
+                return;
+            }
+            try {
+                future.complete(task.run());
+            } catch (IOException exception) {
+                future.completeExceptionally(new NBTException(exception));
+            } catch (Throwable exception) {
+                future.completeExceptionally(exception);
+            } finally {
+                permits.release();
+            }
+        }).start();
+        return future;
+    }
+
+    private NamedTag readNow(Path path, NBTStream type, NBTCompression compression) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new NBTException("File too large: " + path);
+            }
+            // small files, which most are, are decoded straight from a pooled direct buffer
+            boolean pooled = size <= pool.chunkSize();
+            ByteBuffer buffer = pooled ? pool.acquire() : ByteBuffer.allocate((int) size);
+            try {
+                buffer.limit((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, buffer.position()) < 0) {
+                        break; // the file has been truncated meanwhile
+                    }
+                }
+                return reader.read(NBT.input(type, buffer.flip(), compression));
+            } finally {
+                if (pooled) {
+                    pool.release(buffer);
+                }
+            }
+        }
+    }
+
+    private void writeNow(Path path, NBTStream type, NBTCompression compression, NamedTag tag) throws IOException {
+        var stream = new ChunkedByteBufferOutputStream(pool);
+        Path temporary = path.resolveSibling(path.getFileName() + "." + Thread.currentThread().threadId() + ".tmp");
+        try {
+            try (var output = output(type, stream, compression)) {
+                writer.write(output, tag);
+            }
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                for (ByteBuffer buffer : stream.toByteBuffers()) {
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+                channel.force(true); // the content must be on disk before the rename can be
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        } finally {
+            stream.release();
+        }
+    }
+
+    private static LittleEndianNBTOutputBuffer output(NBTStream type, ChunkedByteBufferOutputStream stream, NBTCompression compression) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputBuffer(stream, compression);
+            case BIG_ENDIAN    -> new BigEndianNBTOutputBuffer(stream, compression);
+            case VARINT        -> new VarIntNBTOutputBuffer(stream, compression);
+        };
+    }
+
+    @FunctionalInterface
+    private interface Task<T> {
+
+        T run() throws IOException;
+
+    }
+
+}
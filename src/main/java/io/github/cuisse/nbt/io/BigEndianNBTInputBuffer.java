@@ -0,0 +1,62 @@
+package io.github.cuisse.nbt.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A class for reading NBT data directly from a byte buffer in big-endian format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class BigEndianNBTInputBuffer extends LittleEndianNBTInputBuffer {
+
+    private static final VarHandle SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT   = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG  = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    public BigEndianNBTInputBuffer(byte[] data) {
+        super(data);
+    }
+
+    public BigEndianNBTInputBuffer(ByteBuffer buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public short readShort() {
+        ensure(Short.BYTES);
+        short value = (short) SHORT.get(buffer, position);
+        advance(Short.BYTES);
+        return value;
+    }
+
+    @Override
+    public int readInt() {
+        ensure(Integer.BYTES);
+        int value = (int) INT.get(buffer, position);
+        advance(Integer.BYTES);
+        return value;
+    }
+
+    @Override
+    public long readLong() {
+        ensure(Long.BYTES);
+        long value = (long) LONG.get(buffer, position);
+        advance(Long.BYTES);
+        return value;
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.BIG_ENDIAN;
+    }
+
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.github.cuisse.nbt.io;
 
 import java.io.InputStream;
+import java.nio.ByteOrder;
 
 /**
  * A class for reading NBT data from an input stream in big-endian format.
@@ -14,6 +15,10 @@ public class BigEndianNBTInputStream extends LittleEndianNBTInputStream {
         super(is, compressed);
     }
 
+    public BigEndianNBTInputStream(InputStream is, NBTCompression compression) {
+        super(is, compression);
+    }
+
     @Override
     public short readShort() {
         return Short.reverseBytes(super.readShort());
@@ -29,4 +34,9 @@ public class BigEndianNBTInputStream extends LittleEndianNBTInputStream {
         return Long.reverseBytes(super.readLong());
     }
 
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
 }
@@ -0,0 +1,67 @@
+package io.github.cuisse.nbt.io;
+
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * A class for writing NBT data into a growable byte array in big-endian format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class BigEndianNBTOutputBuffer extends LittleEndianNBTOutputBuffer {
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT   = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG  = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    public BigEndianNBTOutputBuffer() {
+        super();
+    }
+
+    public BigEndianNBTOutputBuffer(int capacity) {
+        super(capacity);
+    }
+
+    public BigEndianNBTOutputBuffer(OutputStream os, boolean compress) {
+        super(os, compress);
+    }
+
+    public BigEndianNBTOutputBuffer(OutputStream os, NBTCompression compression) {
+        super(os, compression);
+    }
+
+    @Override
+    public void writeShort(short value) {
+        ensure(Short.BYTES);
+        SHORT.set(buffer, position, value);
+        position += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(int value) {
+        ensure(Integer.BYTES);
+        INT.set(buffer, position, value);
+        position += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long value) {
+        ensure(Long.BYTES);
+        LONG.set(buffer, position, value);
+        position += Long.BYTES;
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.BIG_ENDIAN;
+    }
+
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+}
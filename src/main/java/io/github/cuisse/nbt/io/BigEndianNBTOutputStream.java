@@ -1,6 +1,7 @@
 package io.github.cuisse.nbt.io;
 
 import java.io.OutputStream;
+import java.nio.ByteOrder;
 
 /**
  * A class for writing NBT data to an output stream in big-endian format.
@@ -14,6 +15,10 @@ public class BigEndianNBTOutputStream extends LittleEndianNBTOutputStream {
         super(os, compress);
     }
 
+    public BigEndianNBTOutputStream(OutputStream os, NBTCompression compression) {
+        super(os, compression);
+    }
+
     @Override
     public void writeShort(short value) {
         super.writeShort(Short.reverseBytes(value));
@@ -29,4 +34,14 @@ public class BigEndianNBTOutputStream extends LittleEndianNBTOutputStream {
         super.writeLong(Long.reverseBytes(value));
     }
 
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.BIG_ENDIAN;
+    }
+
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
 }
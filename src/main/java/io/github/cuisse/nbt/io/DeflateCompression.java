@@ -0,0 +1,338 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.BoundedQueue;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Zlib, raw deflate and gzip compressions backed by shared, bounded pools of
+ * {@link Inflater}s and {@link Deflater}s.
+ * <p>
+ * Streams return their inflater or deflater to the pool when closed, so that short-lived
+ * threads such as virtual threads reuse them too. Instances that do not fit in the pool
+ * are ended right away instead of waiting for the garbage collector to free their memory.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class DeflateCompression implements NBTCompression {
+
+    enum Format {
+        ZLIB,
+        DEFLATE,
+        GZIP;
+
+        boolean nowrap() {
+            return this != ZLIB;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int POOL_SIZE   = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC      = 2;
+    private static final int FEXTRA     = 4;
+    private static final int FNAME      = 8;
+    private static final int FCOMMENT   = 16;
+
+    private static final byte[] GZIP_HEADER = {
+            (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    private static final Pool POOL = new Pool();
+
+    private final Format format;
+    private final int level;
+
+    DeflateCompression(Format format, int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.format = format;
+        this.level  = level;
+    }
+
+    @Override
+    public InputStream decompress(InputStream input) throws IOException {
+        return new PooledInflaterInputStream(input, format);
+    }
+
+    @Override
+    public OutputStream compress(OutputStream output) throws IOException {
+        return new PooledDeflaterOutputStream(output, format, level);
+    }
+
+    @Override
+    public String toString() {
+        return format + "(" + level + ")";
+    }
+
+    private static final class Pool {
+
+        private final BoundedQueue<Inflater> inflaters = new BoundedQueue<>(POOL_SIZE);
+        private final BoundedQueue<Inflater> rawInflaters = new BoundedQueue<>(POOL_SIZE);
+        private final BoundedQueue<Deflater> deflaters = new BoundedQueue<>(POOL_SIZE);
+        private final BoundedQueue<Deflater> rawDeflaters = new BoundedQueue<>(POOL_SIZE);
+
+        Inflater inflater(boolean nowrap) {
+            Inflater inflater = (nowrap ? rawInflaters : inflaters).poll();
+            return inflater != null ? inflater : new Inflater(nowrap);
+        }
+
+        void release(Inflater inflater, boolean nowrap) {
+            inflater.reset();
+            if (!(nowrap ? rawInflaters : inflaters).offer(inflater)) {
+                inflater.end();
+            }
+        }
+
+        Deflater deflater(int level, boolean nowrap) {
+            Deflater deflater = (nowrap ? rawDeflaters : deflaters).poll();
+            if (deflater == null) {
+                return new Deflater(level, nowrap);
+            }
+            deflater.setLevel(level);
+            return deflater;
+        }
+
+        void release(Deflater deflater, boolean nowrap) {
+            deflater.reset();
+            if (!(nowrap ? rawDeflaters : deflaters).offer(deflater)) {
+                deflater.end();
+            }
+        }
+
+    }
+
+    private static final class PooledInflaterInputStream extends InflaterInputStream {
+
+        private final Format format;
+        private final CRC32 crc;
+        private boolean eos;
+        private boolean closed;
+
+        PooledInflaterInputStream(InputStream input, Format format) throws IOException {
+            super(input, POOL.inflater(format.nowrap()), BUFFER_SIZE);
+            this.format = format;
+            this.crc    = format == Format.GZIP ? new CRC32() : null;
+            if (crc != null) {
+                try {
+                    readHeader(in);
+                } catch (IOException exception) {
+                    close();
+                    throw exception;
+                }
+            }
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (eos) {
+                return -1;
+            }
+            int read = readInflated(bytes, offset, length);
+            if (read == -1) {
+                if (crc == null || readTrailer()) {
+                    eos = true;
+                } else {
+                    return read(bytes, offset, length);
+                }
+            } else if (crc != null) {
+                crc.update(bytes, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            return eos ? 0 : super.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                POOL.release(inf, format.nowrap());
+                in.close();
+            }
+        }
+
+        private int readInflated(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            try {
+                int read;
+                while ((read = inf.inflate(bytes, offset, length)) == 0) {
+                    if (inf.finished() || inf.needsDictionary()) {
+                        return -1;
+                    }
+                    if (inf.needsInput()) {
+                        fill();
+                    }
+                }
+                return read;
+            } catch (DataFormatException exception) {
+                String message = exception.getMessage();
+                throw new ZipException(message != null ? message : "Invalid " + format + " data format");
+            }
+        }
+
+        private void readHeader(InputStream input) throws IOException {
+            var check = new CRC32();
+            var stream = new CheckedInputStream(input, check);
+            if (readUShort(stream) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUByte(stream) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            int flags = readUByte(stream);
+            skipFully(stream, 6);
+            if ((flags & FEXTRA) == FEXTRA) {
+                skipFully(stream, readUShort(stream));
+            }
+            if ((flags & FNAME) == FNAME) {
+                while (readUByte(stream) != 0) { }
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                while (readUByte(stream) != 0) { }
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                int value = (int) check.getValue() & 0xffff;
+                if (readUShort(stream) != value) {
+                    throw new ZipException("Corrupt GZIP header");
+                }
+            }
+            crc.reset();
+        }
+
+        private boolean readTrailer() throws IOException {
+            int remaining = inf.getRemaining();
+            var buffered = new ByteArrayInputStream(buf, len - remaining, remaining);
+            var input = new SequenceInputStream(buffered, in);
+            if (readUInt(input) != crc.getValue() || readUInt(input) != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            if (buffered.available() == 0 && in.available() <= 0) {
+                return true;
+            }
+            try {
+                readHeader(input);
+            } catch (IOException ignored) {
+                return true; // trailing bytes that are not another member
+            }
+            inf.reset();
+            int left = buffered.available();
+            if (left > 0) {
+                inf.setInput(buf, len - left, left);
+            }
+            return false;
+        }
+
+        private static long readUInt(InputStream input) throws IOException {
+            long low = readUShort(input);
+            return ((long) readUShort(input) << 16) | low;
+        }
+
+        private static int readUShort(InputStream input) throws IOException {
+            int low = readUByte(input);
+            return (readUByte(input) << 8) | low;
+        }
+
+        private static int readUByte(InputStream input) throws IOException {
+            int value = input.read();
+            if (value == -1) {
+                throw new EOFException();
+            }
+            return value;
+        }
+
+        private static void skipFully(InputStream input, int length) throws IOException {
+            while (length > 0) {
+                readUByte(input);
+                length--;
+            }
+        }
+
+    }
+
+    private static final class PooledDeflaterOutputStream extends DeflaterOutputStream {
+
+        private final Format format;
+        private final CRC32 crc;
+        private boolean finished;
+        private boolean closed;
+
+        PooledDeflaterOutputStream(OutputStream output, Format format, int level) throws IOException {
+            super(output, POOL.deflater(level, format.nowrap()), BUFFER_SIZE);
+            this.format = format;
+            this.crc    = format == Format.GZIP ? new CRC32() : null;
+            if (crc != null) {
+                out.write(GZIP_HEADER);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            super.write(bytes, offset, length);
+            if (crc != null) {
+                crc.update(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                super.finish();
+                if (crc != null) {
+                    writeUInt(crc.getValue());
+                    writeUInt(def.getBytesRead());
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                try {
+                    finish();
+                } finally {
+                    POOL.release(def, format.nowrap());
+                    out.close();
+                }
+            }
+        }
+
+        private void writeUInt(long value) throws IOException {
+            out.write((int) value);
+            out.write((int) (value >>> 8));
+            out.write((int) (value >>> 16));
+            out.write((int) (value >>> 24));
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.ListTag;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A {@link ListTag} that keeps the bytes it was read from.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class EncodedListTag extends ListTag implements EncodedTag {
+
+    private final NBTStream stream;
+    private final ByteBuffer encoded;
+
+    EncodedListTag(TagType type, List<Tag> value, NBTStream stream, ByteBuffer encoded) {
+        super(type, value);
+        this.stream  = stream;
+        this.encoded = encoded;
+    }
+
+    @Override
+    public NBTStream stream() {
+        return stream;
+    }
+
+    @Override
+    public ByteBuffer encoded() {
+        return encoded.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return stream == this.stream ? encoded.remaining() : super.encodedSize(stream);
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.Tag;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link Tag} that was read from bytes and keeps its original encoding.
+ * <p>
+ * Tags are immutable, so the encoding of an encoded tag always matches its value and
+ * {@link SimpleNBTWriter} copies it as it is to outputs of the same {@link NBTStream}
+ * format instead of encoding the tag again.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public interface EncodedTag extends Tag {
+
+    /**
+     * Returns the format of the encoded bytes.
+     *
+     * @return the format of the encoded bytes.
+     */
+    NBTStream stream();
+
+    /**
+     * Returns a read-only view over the encoded payload of this tag,
+     * without its type and name.
+     *
+     * @return the encoded payload.
+     */
+    ByteBuffer encoded();
+
+}
@@ -0,0 +1,200 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.CompoundTag;
+import io.github.cuisse.nbt.tags.ListTag;
+
+import java.util.Arrays;
+
+/**
+ * A {@link SimpleNBTReader} that decodes nested lists and compounds with a loop over an explicit
+ * stack instead of recursive calls.
+ * <p>
+ * The Java stack used by {@link #readTag(NBTInput, TagType, int)} does not grow with the nesting
+ * of the data, which is up to {@link Tag#MAX_DEPTH} levels deep, so deeply nested tags can be read
+ * on threads with small stacks such as virtual threads. The state of each level is kept in a frame
+ * reused by its siblings. Every tag is decoded eagerly; visiting and skipping are inherited.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class IterativeNBTReader extends SimpleNBTReader {
+
+    private static final int INITIAL_STACK_SIZE = 16;
+
+    /**
+     * Creates a new reader.
+     */
+    public IterativeNBTReader() {
+        this(null);
+    }
+
+    /**
+     * Creates a new reader that shares the names and string values it reads through the specified cache.
+     *
+     * @param cache the cache of decoded strings, or null to decode every string.
+     */
+    public IterativeNBTReader(StringCache cache) {
+        super(false, false, cache);
+    }
+
+    @Override
+    public Tag readTag(NBTInput input, TagType type, int depth) {
+        if (depth <= 0) {
+            throw new NBTException("NBT tag depth exceeded");
+        }
+        if (type != TagType.TAG_List && type != TagType.TAG_Compound) {
+            return readValue(input, type);
+        }
+        var frames = new Frames(this, depth);
+        Tag tag = frames.open(input, type);
+        while (tag == null) {
+            tag = frames.step(input);
+        }
+        return tag;
+    }
+
+    /**
+     * The stack of lists and compounds being read, advanced one entry at a time.
+     * <p>
+     * A step either reads all the bytes of an entry or changes nothing, so a step that fails
+     * because the input ran out can be retried from the same position once more bytes are
+     * available, which is what {@link NBTPushDecoder} does.
+     */
+    static final class Frames {
+
+        private final SimpleNBTReader reader;
+        private final int depth;
+        private Frame[] stack;
+        private int top;
+
+        Frames(SimpleNBTReader reader, int depth) {
+            this.reader = reader;
+            this.depth  = depth;
+            this.stack  = new Frame[Math.min(depth, INITIAL_STACK_SIZE)];
+        }
+
+        /**
+         * Starts reading a list or compound, or returns the list if it holds primitives and was read at once.
+         */
+        Tag open(NBTInput input, TagType type) {
+            top = 0;
+            return open(input, type, 0);
+        }
+
+        /**
+         * Reads the next entry of the innermost list or compound, and returns the outermost
+         * one once all of it has been read.
+         */
+        Tag step(NBTInput input) {
+            Frame frame = stack[top];
+            TagType child = frame.type;
+            boolean end;
+            if (child == null) {
+                child = TagType.fromInt(input.readByte());
+                end = child == TagType.TAG_End;
+                if (!end) {
+                    frame.name = reader.readName(input);
+                }
+            } else {
+                end = frame.remaining == 0;
+            }
+            Tag tag;
+            if (end) {
+                tag = frame.build();
+                if (top == 0) {
+                    return tag;
+                }
+                top--;
+            } else {
+                if (top + 1 >= depth) {
+                    throw new NBTException("NBT tag depth exceeded");
+                }
+                if (child == TagType.TAG_List || child == TagType.TAG_Compound) {
+                    if (top + 1 == stack.length) {
+                        stack = Arrays.copyOf(stack, Math.min(depth, stack.length * 2));
+                    }
+                    tag = open(input, child, top + 1);
+                    if (tag == null) {
+                        frame.remaining--;
+                        top++;
+                        return null;
+                    }
+                } else {
+                    tag = reader.readValue(input, child);
+                }
+                frame.remaining--; // only counted for lists
+            }
+            stack[top].add(tag);
+            return null;
+        }
+
+        private Tag open(NBTInput input, TagType type, int level) {
+            Frame frame = stack[level];
+            if (frame == null) {
+                stack[level] = frame = new Frame();
+            }
+            if (type == TagType.TAG_Compound) {
+                frame.type = null;
+                frame.size = 0;
+                return null;
+            }
+            var elementType = TagType.fromInt(input.readByte());
+            var primitives = reader.readPrimitiveList(input, elementType);
+            if (primitives != null) {
+                return primitives;
+            }
+            int size = reader.readListSize(input);
+            frame.type      = elementType;
+            frame.remaining = size;
+            frame.list      = ListTag.builder(elementType, Math.min(size, MAX_PREALLOCATED_ENTRIES));
+            return null;
+        }
+
+    }
+
+    /**
+     * The state of a list or compound being read. Its arrays are reused by the compounds
+     * read at the same level, since they are copied when the compound is created.
+     */
+    private static final class Frame {
+
+        TagType type; // the type of the entries of a list, null for a compound
+        int remaining;
+        ListTag.Builder list;
+        String[] names = new String[8];
+        Tag[] tags = new Tag[8];
+        int size;
+        String name;
+
+        void add(Tag tag) {
+            if (type != null) {
+                list.add(tag);
+                return;
+            }
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                tags  = Arrays.copyOf(tags, size * 2);
+            }
+            names[size] = name;
+            tags[size]  = tag;
+            size++;
+        }
+
+        Tag build() {
+            if (type != null) {
+                var tag = list.build();
+                list = null;
+                return tag;
+            }
+            if (size == 0) {
+                return CompoundTag.DEFAULT;
+            }
+            return CompoundTag.create(Arrays.copyOf(names, size), Arrays.copyOf(tags, size));
+        }
+
+    }
+
+}
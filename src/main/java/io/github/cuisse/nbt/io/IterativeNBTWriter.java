@@ -0,0 +1,108 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.CompoundTag;
+import io.github.cuisse.nbt.tags.ListTag;
+
+import java.util.Arrays;
+
+/**
+ * A {@link SimpleNBTWriter} that encodes nested lists and compounds with a loop over an explicit
+ * stack instead of recursive calls.
+ * <p>
+ * Like {@link IterativeNBTReader}, the Java stack used by {@link #write(NBTOutput, Tag, int)} does
+ * not grow with the nesting of the tag, and no lambda is created per compound. The output is the
+ * same as the one of {@link SimpleNBTWriter}, including the raw copies of {@link EncodedTag}s.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class IterativeNBTWriter extends SimpleNBTWriter {
+
+    private static final int INITIAL_STACK_SIZE = 16;
+
+    @Override
+    public void write(NBTOutput output, Tag tag, int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Depth limit exceeded");
+        }
+        if (tag instanceof EncodedTag encoded && output.writeEncoded(encoded.stream(), encoded.encoded())) {
+            return; // unmodified since it was read, copy its original encoding
+        }
+        if (tag.type() != TagType.TAG_List && tag.type() != TagType.TAG_Compound) {
+            writeValue(output, tag);
+            return;
+        }
+        // each level is either a list and the index of its next entry, or a cursor over a compound
+        int capacity = Math.min(depth, INITIAL_STACK_SIZE);
+        var lists    = new ListTag[capacity];
+        var indices  = new int[capacity];
+        var entries  = new CompoundTag.Cursor[capacity];
+        int top = open(output, tag, lists, entries, 0) ? 0 : -1;
+        while (top >= 0) {
+            Tag child;
+            ListTag list = lists[top];
+            if (list != null) {
+                int index = indices[top];
+                if (index == list.size()) {
+                    top--;
+                    continue;
+                }
+                indices[top] = index + 1;
+                child = list.getAt(index);
+            } else {
+                var cursor = entries[top];
+                if (!cursor.next()) {
+                    output.writeByte((byte) TagType.TAG_End.ordinal());
+                    top--;
+                    continue;
+                }
+                child = cursor.tag();
+                output.writeByte(getTagType(child));
+                output.writeString(cursor.name());
+            }
+            if (top + 1 >= depth) {
+                throw new IllegalArgumentException("Depth limit exceeded");
+            }
+            if (child instanceof EncodedTag encoded && output.writeEncoded(encoded.stream(), encoded.encoded())) {
+                continue;
+            }
+            if (child.type() != TagType.TAG_List && child.type() != TagType.TAG_Compound) {
+                writeValue(output, child);
+                continue;
+            }
+            if (top + 1 == lists.length) {
+                int length = Math.min(depth, lists.length * 2);
+                lists   = Arrays.copyOf(lists, length);
+                indices = Arrays.copyOf(indices, length);
+                entries = Arrays.copyOf(entries, length);
+            }
+            if (open(output, child, lists, entries, top + 1)) {
+                indices[top + 1] = 0;
+                top++;
+            }
+        }
+    }
+
+    /**
+     * Writes the header of a list or compound and prepares the specified level to write its
+     * entries, or writes the whole list and returns false if it holds primitives.
+     */
+    private boolean open(NBTOutput output, Tag tag, ListTag[] lists, CompoundTag.Cursor[] entries, int level) {
+        if (tag instanceof ListTag list) {
+            output.writeByte((byte) list.getType().ordinal());
+            if (writePrimitiveList(output, list)) {
+                return false;
+            }
+            output.writeInt(list.size());
+            lists[level]   = list;
+            entries[level] = null;
+        } else {
+            lists[level]   = null;
+            entries[level] = ((CompoundTag) tag).cursor();
+        }
+        return true;
+    }
+
+}
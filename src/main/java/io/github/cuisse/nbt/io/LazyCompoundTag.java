@@ -0,0 +1,205 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.CompoundTag;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link CompoundTag} that keeps its encoded bytes and decodes each child on first access.
+ * <p>
+ * Only the names of the children are indexed when the tag is read, their payloads are decoded
+ * when they are looked up or iterated.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LazyCompoundTag extends CompoundTag implements EncodedTag {
+
+    private static final SimpleNBTReader READER = new SimpleNBTReader(true, true, null);
+
+    private final NBTStream stream;
+    private final ByteBuffer encoded;
+    private final String[] names;
+    private final NameIndex index;
+    private final TagType[] types;
+    private final int[] positions;
+    private final int depth;
+    private final Tag[] values;
+
+    private LazyCompoundTag(NBTStream stream, ByteBuffer encoded, String[] names, NameIndex index, TagType[] types, int[] positions, int depth) {
+        this.stream    = stream;
+        this.encoded   = encoded;
+        this.names     = names;
+        this.index     = index;
+        this.types     = types;
+        this.positions = positions;
+        this.depth     = depth;
+        this.values    = new Tag[names.length];
+    }
+
+    /**
+     * Reads the payload of a compound tag from the specified input, indexing its children.
+     *
+     * @param reader the reader used to read the names and skip the children.
+     * @param input the input to read from.
+     * @param depth the depth of the compound tag.
+     * @param shared whether the input bytes are immutable and can be shared instead of copied.
+     * @return the lazy compound tag.
+     */
+    static LazyCompoundTag read(SimpleNBTReader reader, LittleEndianNBTInputBuffer input, int depth, boolean shared) {
+        int start = input.position();
+        int count = 0;
+        var names     = new String[8];
+        var types     = new TagType[8];
+        var positions = new int[8];
+        while (true) {
+            var type = TagType.fromInt(input.readByte());
+            if (type == TagType.TAG_End) {
+                break;
+            }
+            if (count == names.length) {
+                names     = Arrays.copyOf(names, count * 2);
+                types     = Arrays.copyOf(types, count * 2);
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            names[count] = reader.readName(input);
+            types[count] = type;
+            positions[count] = input.position() - start;
+            count++;
+            reader.skipTag(input, type, depth - 1);
+        }
+        names     = Arrays.copyOf(names, count);
+        types     = Arrays.copyOf(types, count);
+        positions = Arrays.copyOf(positions, count);
+        var index = new NameIndex(names);
+        if (index.size() < count) {
+            // a repeated name keeps its first place but the last value, like an eager compound
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                int first = index.indexOf(names[i]);
+                types[first]     = types[i];
+                positions[first] = positions[i];
+            }
+            for (int i = 0; i < count; i++) {
+                if (index.indexOf(names[i]) == i) {
+                    names[size]     = names[i];
+                    types[size]     = types[i];
+                    positions[size] = positions[i];
+                    size++;
+                }
+            }
+            names     = Arrays.copyOf(names, size);
+            types     = Arrays.copyOf(types, size);
+            positions = Arrays.copyOf(positions, size);
+            index     = new NameIndex(names);
+        }
+        return new LazyCompoundTag(input.stream(), input.encoded(start, shared), names, index, types, positions, depth);
+    }
+
+    @Override
+    public NBTStream stream() {
+        return stream;
+    }
+
+    /**
+     * Returns a read-only view over the encoded payload of this compound tag,
+     * from the first child up to and including the closing {@code TAG_End}.
+     *
+     * @return the encoded payload.
+     */
+    @Override
+    public ByteBuffer encoded() {
+        return encoded.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return stream == this.stream ? encoded.remaining() : super.encodedSize(stream);
+    }
+
+    @Override
+    public <T extends Tag> T get(String name, Class<T> expectedType) {
+        int i = index.indexOf(name);
+        return i >= 0 ? expectedType.cast(decode(i)) : null;
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public Cursor cursor() {
+        return new Cursor() {
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index < names.length) {
+                    index++;
+                }
+                return index < names.length;
+            }
+
+            @Override
+            public String name() {
+                return names[index];
+            }
+
+            @Override
+            public Tag tag() {
+                return decode(index);
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Tag>> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < names.length;
+            }
+
+            @Override
+            public Map.Entry<String, Tag> next() {
+                if (index >= names.length) {
+                    throw new NoSuchElementException();
+                }
+                int current = index++;
+                return new AbstractMap.SimpleImmutableEntry<>(names[current], decode(current));
+            }
+        };
+    }
+
+    private Tag decode(int index) {
+        Tag tag = values[index];
+        if (tag == null) {
+            var input = input(stream, encoded.slice(positions[index], encoded.limit() - positions[index]));
+            tag = READER.readTag(input, types[index], depth - 1);
+            values[index] = tag;
+        }
+        return tag;
+    }
+
+    /**
+     * Creates an input over the specified buffer in the specified format.
+     */
+    static LittleEndianNBTInputBuffer input(NBTStream stream, ByteBuffer buffer) {
+        return switch (stream) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputBuffer(buffer);
+            case BIG_ENDIAN    -> new BigEndianNBTInputBuffer(buffer);
+            case VARINT        -> new VarIntNBTInputBuffer(buffer);
+        };
+    }
+
+}
@@ -0,0 +1,344 @@
+package io.github.cuisse.nbt.io;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A class for reading NBT data directly from a byte buffer in little-endian format.
+ * <p>
+ * Values are decoded with cursor arithmetic over the backing buffer instead of going
+ * through {@link java.io.InputStream#read()} for every byte. The position of the source
+ * buffer is advanced past each value as it is read, so that the following tags of the
+ * buffer can be read by another input.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LittleEndianNBTInputBuffer implements NBTInput {
+
+    private static final VarHandle SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT   = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG  = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    protected ByteBuffer buffer;
+    protected int limit;
+    protected int position;
+    private byte[] scratch = new byte[64];
+    private ByteBuffer wrapper;
+
+    /**
+     * Creates a new input that reads from the specified byte array.
+     *
+     * @param data the bytes to read from.
+     * @throws NullPointerException if the data is null.
+     */
+    public LittleEndianNBTInputBuffer(byte[] data) {
+        this(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Creates a new input that reads the remaining bytes of the specified buffer.
+     *
+     * @param buffer the buffer to read from.
+     * @throws NullPointerException if the buffer is null.
+     */
+    public LittleEndianNBTInputBuffer(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer == null");
+        } else {
+            this.buffer   = buffer;
+            this.position = buffer.position();
+            this.limit    = buffer.limit();
+        }
+    }
+
+    /**
+     * Makes this input read the remaining bytes of the specified buffer instead, so that
+     * it can be reused for many payloads without creating a new input for each of them.
+     *
+     * @param buffer the buffer to read from.
+     * @return this input.
+     * @throws NullPointerException if the buffer is null.
+     */
+    public LittleEndianNBTInputBuffer reset(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer == null");
+        }
+        this.buffer   = buffer;
+        this.position = buffer.position();
+        this.limit    = buffer.limit();
+        return this;
+    }
+
+    /**
+     * Makes this input read the specified range of an array instead. No buffer is
+     * created when the array is the one this input was last reset with.
+     *
+     * @param data the bytes to read from.
+     * @param offset the offset of the first byte to read.
+     * @param length the number of bytes to read.
+     * @return this input.
+     * @throws NullPointerException if the data is null.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     */
+    public LittleEndianNBTInputBuffer reset(byte[] data, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, data.length);
+        if (buffer != wrapper || wrapper.array() != data) {
+            wrapper = ByteBuffer.wrap(data);
+        }
+        this.buffer   = wrapper.position(offset);
+        this.position = offset;
+        this.limit    = offset + length;
+        return this;
+    }
+
+    /**
+     * Returns the current read position in the underlying buffer.
+     *
+     * @return the current read position.
+     */
+    public int position() {
+        return position;
+    }
+
+    @Override
+    public int remaining() {
+        return limit - position;
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, limit - position));
+        advance(skipped);
+        return skipped;
+    }
+
+    @Override
+    public byte readByte() {
+        ensure(Byte.BYTES);
+        byte value = buffer.get(position);
+        advance(Byte.BYTES);
+        return value;
+    }
+
+    @Override
+    public short readShort() {
+        ensure(Short.BYTES);
+        short value = (short) SHORT.get(buffer, position);
+        advance(Short.BYTES);
+        return value;
+    }
+
+    @Override
+    public int readInt() {
+        ensure(Integer.BYTES);
+        int value = (int) INT.get(buffer, position);
+        advance(Integer.BYTES);
+        return value;
+    }
+
+    @Override
+    public long readLong() {
+        ensure(Long.BYTES);
+        long value = (long) LONG.get(buffer, position);
+        advance(Long.BYTES);
+        return value;
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(
+                readInt()
+        );
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(
+                readLong()
+        );
+    }
+
+    @Override
+    public byte[] readByteArray() {
+        byte[] bytes = new byte[assertAvailable(readInt())];
+        buffer.get(position, bytes);
+        advance(bytes.length);
+        return bytes;
+    }
+
+    @Override
+    public String readString() {
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())));
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(Short.toUnsignedInt(readShort())), names);
+    }
+
+    @Override
+    public int[] readIntArray() {
+        int[] ints = new int[assertAvailable(readInt(), Integer.BYTES)];
+        buffer.slice(position, ints.length * Integer.BYTES).order(order()).asIntBuffer().get(ints);
+        advance(ints.length * Integer.BYTES);
+        return ints;
+    }
+
+    @Override
+    public long[] readLongArray() {
+        long[] longs = new long[assertAvailable(readInt(), Long.BYTES)];
+        buffer.slice(position, longs.length * Long.BYTES).order(order()).asLongBuffer().get(longs);
+        advance(longs.length * Long.BYTES);
+        return longs;
+    }
+
+    @Override
+    public void skipString() {
+        int length = assertAvailable(Short.toUnsignedInt(readShort()));
+        advance(length);
+    }
+
+    @Override
+    public void skipByteArray() {
+        int length = assertAvailable(readInt());
+        advance(length);
+    }
+
+    @Override
+    public void skipIntArray() {
+        int length = assertAvailable(readInt(), Integer.BYTES) * Integer.BYTES;
+        advance(length);
+    }
+
+    @Override
+    public void skipLongArray() {
+        int length = assertAvailable(readInt(), Long.BYTES) * Long.BYTES;
+        advance(length);
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the source buffer is already past the bytes read
+    }
+
+    /**
+     * Returns the format of this input.
+     *
+     * @return the format of this input.
+     */
+    protected NBTStream stream() {
+        return NBTStream.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the byte order used by the fixed-width values of this input.
+     *
+     * @return the byte order of this input.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the bytes read since the specified position.
+     *
+     * @param start the position to start from.
+     * @param shared whether the bytes can be shared with the source buffer instead of copied.
+     * @return the bytes read since the position.
+     */
+    protected ByteBuffer encoded(int start, boolean shared) {
+        ByteBuffer encoded = buffer.slice(start, position - start);
+        return shared ? encoded : ByteBuffer.allocate(encoded.remaining()).put(encoded).flip();
+    }
+
+    protected String readString(int length) {
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = scratch(length);
+            buffer.get(position, bytes, 0, length);
+            value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        advance(length);
+        return value;
+    }
+
+    protected String readString(int length, StringCache cache) {
+        String value;
+        if (buffer.hasArray()) {
+            value = cache.decode(buffer.array(), buffer.arrayOffset() + position, length);
+        } else {
+            byte[] bytes = scratch(length);
+            buffer.get(position, bytes, 0, length);
+            value = cache.decode(bytes, 0, length);
+        }
+        advance(length);
+        return value;
+    }
+
+    protected int readName(int length, NameTable names) {
+        int index;
+        if (buffer.hasArray()) {
+            index = names.indexOf(buffer.array(), buffer.arrayOffset() + position, length);
+        } else {
+            byte[] bytes = scratch(length);
+            buffer.get(position, bytes, 0, length);
+            index = names.indexOf(bytes, 0, length);
+        }
+        advance(length);
+        return index;
+    }
+
+    /**
+     * Returns a reusable array holding at least the specified number of bytes, used to
+     * decode strings from buffers without an accessible array.
+     */
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+
+    /**
+     * Moves past the specified number of bytes, along with the position of the source buffer.
+     */
+    protected void advance(int length) {
+        position += length;
+        buffer.position(position);
+    }
+
+    protected void ensure(long length) {
+        if (length > limit - position) {
+            throw new NBTUnderflowException(length, remaining());
+        }
+    }
+
+    protected int assertAvailable(int length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Length must be positive, got " + length + ".");
+        }
+        ensure(length);
+        return length;
+    }
+
+    protected int assertAvailable(int length, int width) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Length must be positive, got " + length + ".");
+        }
+        ensure((long) length * width);
+        return length;
+    }
+
+}
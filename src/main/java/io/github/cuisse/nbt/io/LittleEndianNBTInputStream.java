@@ -4,8 +4,9 @@ import io.github.cuisse.nbt.NBTException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.util.zip.GZIPInputStream;
 
 /**
  * A class for reading NBT data from an input stream in little-endian format.
@@ -15,11 +16,25 @@ import java.util.zip.GZIPInputStream;
  */
 public class LittleEndianNBTInputStream implements NBTInput {
 
+    private static final int MAX_SCRATCH_LENGTH = 8192;
+
     protected final InputStream input;
+    private byte[] scratch = new byte[64];
 
     public LittleEndianNBTInputStream(InputStream input, boolean compressed) {
+        this(input, NBTCompression.of(compressed));
+    }
+
+    /**
+     * Creates a new input that reads from the specified stream.
+     *
+     * @param input the stream to read from.
+     * @param compression the compression of the data.
+     * @since 2.1.0
+     */
+    public LittleEndianNBTInputStream(InputStream input, NBTCompression compression) {
         try {
-            this.input = compressed ? new GZIPInputStream(input) : input;
+            this.input = compression.decompress(input);
         } catch (Exception exception) {
             throw new NBTException(exception);
         }
@@ -37,7 +52,18 @@ public class LittleEndianNBTInputStream implements NBTInput {
     @Override
     public int skipBytes(int n) {
         try {
-            return (int) input.skip(n);
+            int skipped = 0;
+            while (skipped < n) {
+                long count = input.skip(n - skipped);
+                if (count <= 0) {
+                    if (input.read() < 0) {
+                        break;
+                    }
+                    count = 1;
+                }
+                skipped += (int) count;
+            }
+            return skipped;
         } catch (IOException exception) {
             throw new NBTException(exception);
         }
@@ -95,55 +121,170 @@ public class LittleEndianNBTInputStream implements NBTInput {
 
     @Override
     public byte[] readByteArray() {
-        byte[] bytes = new byte[assertAvailable(readInt())];
-        try {
-            input.read(bytes);
-        } catch (IOException exception) {
-            throw new NBTException(exception);
-        }
-        return bytes;
+        return readFully(assertAvailable(readInt()));
     }
 
     @Override
     public String readString() {
-        byte[] bytes = new byte[(short) assertAvailable(readShort())];
-        try {
-            input.read(bytes);
-        } catch (IOException e) {
-            throw new NBTException(e);
-        }
-        return new String(bytes, StandardCharsets.UTF_8);
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())), null);
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(Short.toUnsignedInt(readShort())), names);
     }
 
     @Override
     public int[] readIntArray() {
-        int[] ints = new int[assertAvailable(readInt())];
-        for (int i = 0; i < ints.length; i++) {
-            ints[i] = readInt();
-        }
+        var buffer = ByteBuffer.wrap(readFully(assertAvailable(readInt(), Integer.BYTES) * Integer.BYTES)).order(order()).asIntBuffer();
+        int[] ints = new int[buffer.remaining()];
+        buffer.get(ints);
         return ints;
     }
 
     @Override
     public long[] readLongArray() {
-        long[] longs = new long[assertAvailable(readInt())];
-        for (int i = 0; i < longs.length; i++) {
-            longs[i] = readLong();
-        }
+        var buffer = ByteBuffer.wrap(readFully(assertAvailable(readInt(), Long.BYTES) * Long.BYTES)).order(order()).asLongBuffer();
+        long[] longs = new long[buffer.remaining()];
+        buffer.get(longs);
         return longs;
     }
 
+    @Override
+    public void skipString() {
+        skipFully(assertAvailable(Short.toUnsignedInt(readShort())));
+    }
+
+    @Override
+    public void skipByteArray() {
+        skipFully(assertAvailable(readInt()));
+    }
+
+    @Override
+    public void skipIntArray() {
+        skipFully((long) assertAvailable(readInt()) * Integer.BYTES);
+    }
+
+    @Override
+    public void skipLongArray() {
+        skipFully((long) assertAvailable(readInt()) * Long.BYTES);
+    }
+
     @Override
     public void close() throws IOException {
         input.close();
     }
 
+    /**
+     * Returns the byte order used by the fixed-width values of this input.
+     *
+     * @return the byte order of this input.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Reads and decodes a string of the specified encoded length.
+     *
+     * @param length the encoded length of the string.
+     * @param cache the cache of decoded strings, or null.
+     * @return the string read.
+     */
+    protected String readString(int length, StringCache cache) {
+        byte[] bytes = readEncoded(length);
+        return cache != null ? cache.decode(bytes, 0, length) : new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string of the specified encoded length and looks it up in the specified table
+     * without decoding it.
+     *
+     * @param length the encoded length of the string.
+     * @param names the table of names to match.
+     * @return the index of the string in the table, or {@code -1} if it is not in it.
+     */
+    protected int readName(int length, NameTable names) {
+        return names.indexOf(readEncoded(length), 0, length);
+    }
+
+    /**
+     * Reads the encoded bytes of a string. Strings up to 8 KiB are read into a reusable
+     * array instead of a new one, which is only valid until the next read.
+     *
+     * @param length the encoded length of the string.
+     * @return an array holding the bytes read from its start.
+     */
+    private byte[] readEncoded(int length) {
+        if (length > MAX_SCRATCH_LENGTH) {
+            return readFully(length);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, Math.min(scratch.length * 2, MAX_SCRATCH_LENGTH))];
+        }
+        try {
+            int read = input.readNBytes(scratch, 0, length);
+            if (read != length) {
+                throw new NBTException("Not enough data available, expected " + length + " bytes but only " + read + " bytes available.");
+            }
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+        return scratch;
+    }
+
+    /**
+     * Reads exactly the specified number of bytes. The bytes are buffered as they
+     * arrive, so a corrupt length does not allocate more than the data available.
+     *
+     * @param length the number of bytes to read.
+     * @return the bytes read.
+     * @throws NBTException if the stream ends before all the bytes are read.
+     */
+    protected byte[] readFully(int length) {
+        try {
+            byte[] bytes = input.readNBytes(length);
+            if (bytes.length != length) {
+                throw new NBTException("Not enough data available, expected " + length + " bytes but only " + bytes.length + " bytes available.");
+            }
+            return bytes;
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    protected void skipFully(long length) {
+        try {
+            input.skipNBytes(length);
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Checks that the specified length is valid.
+     * <p>
+     * The bytes available in a stream are only an estimate, so unlike the buffer inputs
+     * this does not check them up front; reading fails when the stream ends instead.
+     *
+     * @param length the length to check.
+     * @return the length.
+     */
     protected int assertAvailable(int length) {
         if (length < 0) {
             throw new IndexOutOfBoundsException("Length must be positive, got " + length + ".");
         }
-        if (length > remaining()) {
-            throw new NBTException("Not enough data available, expected " + length + " bytes but only " + remaining() + " bytes available.");
+        return length;
+    }
+
+    protected int assertAvailable(int length, int width) {
+        if (assertAvailable(length) > Integer.MAX_VALUE / width) {
+            throw new NBTException("Array too large, " + length + " entries of " + width + " bytes.");
         }
         return length;
     }
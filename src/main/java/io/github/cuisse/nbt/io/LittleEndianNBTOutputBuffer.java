@@ -0,0 +1,349 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * A class for writing NBT data into a growable byte array in little-endian format.
+ * <p>
+ * Values are encoded straight into an internal buffer. When the output has a sink, the
+ * buffered bytes are pushed to it in large chunks once the buffer fills up and when the
+ * output is flushed or closed; otherwise the encoded bytes can be obtained with
+ * {@link #toByteArray()} or {@link #toByteBuffer()}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LittleEndianNBTOutputBuffer implements NBTOutput {
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT   = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG  = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int SINK_CAPACITY    = 65536;
+    private static final int MAX_CAPACITY     = Integer.MAX_VALUE - 8;
+
+    static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    protected final OutputStream sink;
+    protected byte[] buffer;
+    protected int position;
+
+    /**
+     * Creates a new output with a default initial capacity and no sink.
+     */
+    public LittleEndianNBTOutputBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new output with the specified initial capacity and no sink.
+     *
+     * @param capacity the initial capacity of the buffer.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public LittleEndianNBTOutputBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity < 0");
+        }
+        this.sink   = null;
+        this.buffer = new byte[capacity];
+    }
+
+    /**
+     * Creates a new output that pushes the encoded bytes to the specified stream.
+     *
+     * @param output the stream to push the encoded bytes to.
+     * @param compress whether the bytes should be compressed.
+     * @throws NullPointerException if the output is null.
+     */
+    public LittleEndianNBTOutputBuffer(OutputStream output, boolean compress) {
+        this(output, NBTCompression.of(compress));
+    }
+
+    /**
+     * Creates a new output that pushes the encoded bytes to the specified stream.
+     *
+     * @param output the stream to push the encoded bytes to.
+     * @param compression the compression applied to the bytes.
+     * @throws NullPointerException if the output is null.
+     */
+    public LittleEndianNBTOutputBuffer(OutputStream output, NBTCompression compression) {
+        if (output == null) {
+            throw new NullPointerException("output == null");
+        }
+        try {
+            this.sink   = compression.compress(output);
+            this.buffer = new byte[SINK_CAPACITY];
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Returns the number of bytes currently held by this output.
+     *
+     * @return the number of buffered bytes.
+     */
+    public int size() {
+        return position;
+    }
+
+    /**
+     * Discards the buffered bytes, so that the buffer can be reused.
+     */
+    public void reset() {
+        position = 0;
+    }
+
+    /**
+     * Returns a copy of the buffered bytes.
+     *
+     * @return a copy of the buffered bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * Returns a buffer that shares the buffered bytes without copying them.
+     * <p>
+     * The returned buffer is only valid until the next write or {@link #reset()}.
+     *
+     * @return a view over the buffered bytes.
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, position);
+    }
+
+    @Override
+    public void writeByte(byte value) {
+        ensure(Byte.BYTES);
+        buffer[position++] = value;
+    }
+
+    @Override
+    public void writeShort(short value) {
+        ensure(Short.BYTES);
+        SHORT.set(buffer, position, value);
+        position += Short.BYTES;
+    }
+
+    @Override
+    public void writeInt(int value) {
+        ensure(Integer.BYTES);
+        INT.set(buffer, position, value);
+        position += Integer.BYTES;
+    }
+
+    @Override
+    public void writeLong(long value) {
+        ensure(Long.BYTES);
+        LONG.set(buffer, position, value);
+        position += Long.BYTES;
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = Utf8.encodedLength(value);
+        if (length > MAX_STRING_LENGTH) {
+            throw new NBTException("String too long, " + length + " bytes.");
+        }
+        writeShort((short) length);
+        writeStringBytes(value, length);
+    }
+
+    @Override
+    public void writeByteArray(byte[] value) {
+        writeInt(value.length);
+        writeBytes(value, 0, value.length);
+    }
+
+    @Override
+    public void writeIntArray(int[] value) {
+        writeInt(value.length);
+        ensure((long) value.length * Integer.BYTES);
+        ByteBuffer.wrap(buffer, position, value.length * Integer.BYTES).slice().order(order()).asIntBuffer().put(value);
+        position += value.length * Integer.BYTES;
+    }
+
+    @Override
+    public void writeLongArray(long[] value) {
+        writeInt(value.length);
+        ensure((long) value.length * Long.BYTES);
+        ByteBuffer.wrap(buffer, position, value.length * Long.BYTES).slice().order(order()).asLongBuffer().put(value);
+        position += value.length * Long.BYTES;
+    }
+
+    @Override
+    public void writeShorts(short[] values) {
+        ensure((long) values.length * Short.BYTES);
+        ByteBuffer.wrap(buffer, position, values.length * Short.BYTES).slice().order(order()).asShortBuffer().put(values);
+        position += values.length * Short.BYTES;
+    }
+
+    @Override
+    public void writeFloats(float[] values) {
+        ensure((long) values.length * Float.BYTES);
+        ByteBuffer.wrap(buffer, position, values.length * Float.BYTES).slice().order(order()).asFloatBuffer().put(values);
+        position += values.length * Float.BYTES;
+    }
+
+    @Override
+    public void writeDoubles(double[] values) {
+        ensure((long) values.length * Double.BYTES);
+        ByteBuffer.wrap(buffer, position, values.length * Double.BYTES).slice().order(order()).asDoubleBuffer().put(values);
+        position += values.length * Double.BYTES;
+    }
+
+    @Override
+    public boolean writeEncoded(NBTStream stream, ByteBuffer encoded) {
+        if (stream != stream()) {
+            return false;
+        }
+        int length = encoded.remaining();
+        if (sink != null && length > buffer.length) {
+            drain();
+            writeToSink(encoded);
+        } else {
+            ensure(length);
+            encoded.get(encoded.position(), buffer, position, length);
+            position += length;
+        }
+        return true;
+    }
+
+    /**
+     * Pushes the buffered bytes to the sink and flushes it.
+     * Does nothing if this output has no sink.
+     */
+    public void flush() {
+        if (sink != null) {
+            drain();
+            try {
+                sink.flush();
+            } catch (IOException exception) {
+                throw new NBTException(exception);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (sink != null) {
+            drain();
+            try {
+                sink.close();
+            } catch (IOException exception) {
+                throw new NBTException(exception);
+            }
+        }
+    }
+
+    /**
+     * Returns the format of this output.
+     *
+     * @return the format of this output.
+     */
+    protected NBTStream stream() {
+        return NBTStream.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the byte order used by the fixed-width values of this output.
+     *
+     * @return the byte order of this output.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Encodes the specified string straight into the buffer.
+     *
+     * @param value the string to encode.
+     * @param length the encoded length of the string.
+     */
+    protected void writeStringBytes(String value, int length) {
+        ensure(length);
+        Utf8.encode(value, buffer, position);
+        position += length;
+    }
+
+    protected void writeBytes(byte[] bytes, int offset, int length) {
+        if (sink != null && length > buffer.length) {
+            drain();
+            try {
+                sink.write(bytes, offset, length);
+            } catch (IOException exception) {
+                throw new NBTException(exception);
+            }
+        } else {
+            ensure(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+    }
+
+    protected void ensure(long length) {
+        if (length > buffer.length - position) {
+            if (sink != null) {
+                drain();
+                if (length <= buffer.length) {
+                    return;
+                }
+            }
+            if (length > MAX_CAPACITY - position) {
+                throw new NBTException("Buffer size limit exceeded, cannot hold " + length + " more bytes.");
+            }
+            int required = position + (int) length;
+            buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_CAPACITY, Math.max(required, buffer.length * 2L)));
+        }
+    }
+
+    private void writeToSink(ByteBuffer encoded) {
+        try {
+            if (encoded.hasArray()) {
+                sink.write(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+            } else {
+                for (int offset = encoded.position(); offset < encoded.limit(); offset += buffer.length) {
+                    int length = Math.min(buffer.length, encoded.limit() - offset);
+                    encoded.get(offset, buffer, 0, length);
+                    sink.write(buffer, 0, length);
+                }
+            }
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    private void drain() {
+        if (position > 0) {
+            try {
+                sink.write(buffer, 0, position);
+            } catch (IOException exception) {
+                throw new NBTException(exception);
+            }
+            position = 0;
+        }
+    }
+
+}
@@ -4,8 +4,8 @@ import io.github.cuisse.nbt.NBTException;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.zip.GZIPOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * A class for writing NBT data to an output stream in little-endian format.
@@ -15,11 +15,25 @@ import java.util.zip.GZIPOutputStream;
  */
 public class LittleEndianNBTOutputStream implements NBTOutput {
 
+    private static final int CHUNK_SIZE = 8192;
+
     protected final OutputStream output;
+    private byte[] scratch = new byte[64];
 
     public LittleEndianNBTOutputStream(OutputStream output, boolean compress) {
+        this(output, NBTCompression.of(compress));
+    }
+
+    /**
+     * Creates a new output that writes to the specified stream.
+     *
+     * @param output the stream to write to.
+     * @param compression the compression applied to the data.
+     * @since 2.1.0
+     */
+    public LittleEndianNBTOutputStream(OutputStream output, NBTCompression compression) {
         try {
-            this.output = compress ? new GZIPOutputStream(output) : output;
+            this.output = compression.compress(output);
         } catch (IOException exception) {
             throw new NBTException(exception);
         }
@@ -84,13 +98,12 @@ public class LittleEndianNBTOutputStream implements NBTOutput {
 
     @Override
     public void writeString(String value) {
-        try {
-            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-            writeShort((short) bytes.length);
-            output.write(bytes);
-        } catch (Exception exception) {
-            throw new NBTException(exception);
+        int length = Utf8.encodedLength(value);
+        if (length > LittleEndianNBTOutputBuffer.MAX_STRING_LENGTH) {
+            throw new NBTException("String too long, " + length + " bytes.");
         }
+        writeShort((short) length);
+        writeStringBytes(value, length);
     }
 
     @Override
@@ -106,22 +119,134 @@ public class LittleEndianNBTOutputStream implements NBTOutput {
     @Override
     public void writeIntArray(int[] value) {
         writeInt(value.length);
-        for (int i : value) {
-            writeInt(i);
+        var chunk = ByteBuffer.allocate(Math.min(value.length * Integer.BYTES, CHUNK_SIZE)).order(order());
+        var ints  = chunk.asIntBuffer();
+        for (int offset = 0; offset < value.length; offset += ints.capacity()) {
+            int length = Math.min(ints.capacity(), value.length - offset);
+            ints.clear();
+            ints.put(value, offset, length);
+            writeChunk(chunk.array(), length * Integer.BYTES);
         }
     }
 
     @Override
     public void writeLongArray(long[] value) {
         writeInt(value.length);
-        for (long i : value) {
-            writeLong(i);
+        var chunk = ByteBuffer.allocate(Math.min(value.length * Long.BYTES, CHUNK_SIZE)).order(order());
+        var longs = chunk.asLongBuffer();
+        for (int offset = 0; offset < value.length; offset += longs.capacity()) {
+            int length = Math.min(longs.capacity(), value.length - offset);
+            longs.clear();
+            longs.put(value, offset, length);
+            writeChunk(chunk.array(), length * Long.BYTES);
+        }
+    }
+
+    @Override
+    public void writeShorts(short[] values) {
+        var chunk  = ByteBuffer.allocate(Math.min(values.length * Short.BYTES, CHUNK_SIZE)).order(order());
+        var shorts = chunk.asShortBuffer();
+        for (int offset = 0; offset < values.length; offset += shorts.capacity()) {
+            int length = Math.min(shorts.capacity(), values.length - offset);
+            shorts.clear();
+            shorts.put(values, offset, length);
+            writeChunk(chunk.array(), length * Short.BYTES);
+        }
+    }
+
+    @Override
+    public void writeFloats(float[] values) {
+        var chunk  = ByteBuffer.allocate(Math.min(values.length * Float.BYTES, CHUNK_SIZE)).order(order());
+        var floats = chunk.asFloatBuffer();
+        for (int offset = 0; offset < values.length; offset += floats.capacity()) {
+            int length = Math.min(floats.capacity(), values.length - offset);
+            floats.clear();
+            floats.put(values, offset, length);
+            writeChunk(chunk.array(), length * Float.BYTES);
         }
     }
 
+    @Override
+    public void writeDoubles(double[] values) {
+        var chunk   = ByteBuffer.allocate(Math.min(values.length * Double.BYTES, CHUNK_SIZE)).order(order());
+        var doubles = chunk.asDoubleBuffer();
+        for (int offset = 0; offset < values.length; offset += doubles.capacity()) {
+            int length = Math.min(doubles.capacity(), values.length - offset);
+            doubles.clear();
+            doubles.put(values, offset, length);
+            writeChunk(chunk.array(), length * Double.BYTES);
+        }
+    }
+
+    @Override
+    public boolean writeEncoded(NBTStream stream, ByteBuffer encoded) {
+        if (stream != stream()) {
+            return false;
+        }
+        try {
+            if (encoded.hasArray()) {
+                output.write(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+            } else {
+                byte[] chunk = new byte[Math.min(encoded.remaining(), CHUNK_SIZE)];
+                for (int offset = encoded.position(); offset < encoded.limit(); offset += chunk.length) {
+                    int length = Math.min(chunk.length, encoded.limit() - offset);
+                    encoded.get(offset, chunk, 0, length);
+                    output.write(chunk, 0, length);
+                }
+            }
+        } catch (Exception exception) {
+            throw new NBTException(exception);
+        }
+        return true;
+    }
+
     @Override
     public void close() throws Exception {
         output.close();
     }
 
+    /**
+     * Encodes the specified string through a reusable scratch array.
+     *
+     * @param value the string to encode.
+     * @param length the encoded length of the string.
+     */
+    protected void writeStringBytes(String value, int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        Utf8.encode(value, scratch, 0);
+        try {
+            output.write(scratch, 0, length);
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Returns the format of this output.
+     *
+     * @return the format of this output.
+     */
+    protected NBTStream stream() {
+        return NBTStream.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the byte order used by the fixed-width values of this output.
+     *
+     * @return the byte order of this output.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    private void writeChunk(byte[] bytes, int length) {
+        try {
+            output.write(bytes, 0, length);
+        } catch (Exception exception) {
+            throw new NBTException(exception);
+        }
+    }
+
 }
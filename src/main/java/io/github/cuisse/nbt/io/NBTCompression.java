@@ -0,0 +1,116 @@
+package io.github.cuisse.nbt.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+/**
+ * An interface for the compression applied on top of NBT data.
+ * <p>
+ * The zlib, raw deflate and gzip compressions borrow their {@link java.util.zip.Inflater} and
+ * {@link Deflater} from a shared pool and give them back when the stream is closed, so
+ * streams must always be closed.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public interface NBTCompression {
+
+    /**
+     * No compression.
+     */
+    NBTCompression NONE = new NBTCompression() {
+        @Override
+        public InputStream decompress(InputStream input) {
+            return input;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream output) {
+            return output;
+        }
+
+        @Override
+        public String toString() {
+            return "NONE";
+        }
+    };
+
+    /**
+     * Gzip compression, used by level and player files.
+     */
+    NBTCompression GZIP = gzip(Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * Zlib compression, used by region file chunks.
+     */
+    NBTCompression ZLIB = zlib(Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * Raw deflate compression without header nor checksum, used by network payloads.
+     */
+    NBTCompression DEFLATE = deflate(Deflater.DEFAULT_COMPRESSION);
+
+    /**
+     * Returns the gzip compression with the specified level.
+     *
+     * @param level the compression level, from 0 to 9 or -1 for the default level.
+     * @return the gzip compression.
+     * @throws IllegalArgumentException if the level is invalid.
+     */
+    static NBTCompression gzip(int level) {
+        return new DeflateCompression(DeflateCompression.Format.GZIP, level);
+    }
+
+    /**
+     * Returns the zlib compression with the specified level.
+     *
+     * @param level the compression level, from 0 to 9 or -1 for the default level.
+     * @return the zlib compression.
+     * @throws IllegalArgumentException if the level is invalid.
+     */
+    static NBTCompression zlib(int level) {
+        return new DeflateCompression(DeflateCompression.Format.ZLIB, level);
+    }
+
+    /**
+     * Returns the raw deflate compression with the specified level.
+     *
+     * @param level the compression level, from 0 to 9 or -1 for the default level.
+     * @return the raw deflate compression.
+     * @throws IllegalArgumentException if the level is invalid.
+     */
+    static NBTCompression deflate(int level) {
+        return new DeflateCompression(DeflateCompression.Format.DEFLATE, level);
+    }
+
+    /**
+     * Returns the compression matching the legacy {@code compressed} flag.
+     *
+     * @param compressed whether the data is compressed.
+     * @return {@link #GZIP} if compressed, otherwise {@link #NONE}.
+     */
+    static NBTCompression of(boolean compressed) {
+        return compressed ? GZIP : NONE;
+    }
+
+    /**
+     * Wraps the specified stream so that compressed data is read from it.
+     *
+     * @param input the stream holding the compressed data.
+     * @return a stream of the decompressed data.
+     * @throws IOException if the compression header cannot be read.
+     */
+    InputStream decompress(InputStream input) throws IOException;
+
+    /**
+     * Wraps the specified stream so that data written to it is compressed.
+     *
+     * @param output the stream to write the compressed data to.
+     * @return a stream that compresses the data written to it.
+     * @throws IOException if the compression header cannot be written.
+     */
+    OutputStream compress(OutputStream output) throws IOException;
+
+}
@@ -0,0 +1,179 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.ByteBufferInputStream;
+import io.github.cuisse.nbt.NBTException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A set of inputs and outputs owned by a thread and reused for every payload it decodes or encodes,
+ * so that reading the NBT of a packet does not create an input, a buffer or a stream each time.
+ * <p>
+ * Each thread has its own context, obtained with {@link #get()}. The inputs and outputs it returns are
+ * reset by the next call for the same {@link NBTStream}, and must not be used once the thread has
+ * moved on to another payload. Compressed data is decompressed into an array kept by the context,
+ * whose inflaters are pooled by {@link NBTCompression}; only arrays, inputs and outputs of at most
+ * {@value #MAX_RETAINED_BYTES} bytes are kept between calls, larger payloads get an input of their
+ * own so that the context does not keep them reachable.
+ * <p>
+ * Since every thread gets its own context, short-lived threads such as virtual threads do not
+ * benefit from it and should use {@link io.github.cuisse.nbt.NBT#input} instead.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class NBTContext {
+
+    /**
+     * The maximum size of the arrays kept by a context between calls.
+     */
+    public static final int MAX_RETAINED_BYTES = 1 << 20;
+
+    private static final ThreadLocal<NBTContext> CONTEXTS = ThreadLocal.withInitial(NBTContext::new);
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the context of the current thread.
+     *
+     * @return the context of the current thread.
+     */
+    public static NBTContext get() {
+        return CONTEXTS.get();
+    }
+
+    private final LittleEndianNBTInputBuffer[] inputs = new LittleEndianNBTInputBuffer[NBTStream.values().length];
+    private final LittleEndianNBTOutputBuffer[] outputs = new LittleEndianNBTOutputBuffer[NBTStream.values().length];
+    private byte[] decompressed = new byte[0];
+
+    private NBTContext() {
+    }
+
+    /**
+     * Returns the input of this context for the specified format, reset to read the remaining
+     * bytes of the specified buffer.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @return the input of this context.
+     * @throws NullPointerException if the data is null.
+     */
+    public LittleEndianNBTInputBuffer input(NBTStream type, ByteBuffer data) {
+        if (data.capacity() > MAX_RETAINED_BYTES) {
+            return create(type, data);
+        }
+        var input = inputs[type.ordinal()];
+        if (input == null) {
+            return inputs[type.ordinal()] = create(type, data);
+        }
+        return input.reset(data);
+    }
+
+    /**
+     * Returns the input of this context for the specified format, reset to read the specified array.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @return the input of this context.
+     * @throws NullPointerException if the data is null.
+     */
+    public LittleEndianNBTInputBuffer input(NBTStream type, byte[] data) {
+        return input(type, data, 0, data.length);
+    }
+
+    /**
+     * Returns the input of this context for the specified format, reset to read the specified range of an array.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @param offset the offset of the first byte to read.
+     * @param length the number of bytes to read.
+     * @return the input of this context.
+     * @throws NullPointerException if the data is null.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     */
+    public LittleEndianNBTInputBuffer input(NBTStream type, byte[] data, int offset, int length) {
+        if (data.length > MAX_RETAINED_BYTES) {
+            return create(type, ByteBuffer.wrap(data, offset, length));
+        }
+        var input = inputs[type.ordinal()];
+        if (input == null) {
+            input = inputs[type.ordinal()] = create(type, ByteBuffer.wrap(data));
+        }
+        return input.reset(data, offset, length);
+    }
+
+    /**
+     * Returns the input of this context for the specified format, reset to read the remaining
+     * bytes of the specified buffer once decompressed.
+     * <p>
+     * The data is decompressed into an array owned by this context, which is overwritten by the
+     * next call; the lazy tags of {@link SimpleNBTReader} copy the bytes they keep, so they
+     * remain valid afterward.
+     *
+     * @param type the NBT stream type.
+     * @param data the NBT data.
+     * @param compression the compression of the data.
+     * @return the input of this context.
+     * @throws NullPointerException if the data is null.
+     * @throws NBTException if the data cannot be decompressed.
+     */
+    public LittleEndianNBTInputBuffer input(NBTStream type, ByteBuffer data, NBTCompression compression) {
+        if (compression == NBTCompression.NONE) {
+            return input(type, data);
+        }
+        byte[] bytes = decompressed;
+        int length = 0;
+        try (var stream = compression.decompress(new ByteBufferInputStream(data))) {
+            for (int read; ; length += read) {
+                if (length == bytes.length) {
+                    if (length == MAX_ARRAY_LENGTH) {
+                        throw new NBTException("Decompressed data too large");
+                    }
+                    bytes = Arrays.copyOf(bytes, (int) Math.min(MAX_ARRAY_LENGTH, Math.max(8192, length * 2L)));
+                }
+                if ((read = stream.read(bytes, length, bytes.length - length)) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+        if (bytes.length <= MAX_RETAINED_BYTES) {
+            decompressed = bytes;
+        }
+        return input(type, bytes, 0, length);
+    }
+
+    /**
+     * Returns the output of this context for the specified format, emptied.
+     * <p>
+     * The encoded bytes can be obtained with {@link LittleEndianNBTOutputBuffer#toByteBuffer()}
+     * without copying them, until the next call.
+     *
+     * @param type the NBT stream type.
+     * @return the output of this context.
+     */
+    public LittleEndianNBTOutputBuffer output(NBTStream type) {
+        var output = outputs[type.ordinal()];
+        if (output == null || output.buffer.length > MAX_RETAINED_BYTES) {
+            return outputs[type.ordinal()] = switch (type) {
+                case LITTLE_ENDIAN -> new LittleEndianNBTOutputBuffer();
+                case BIG_ENDIAN    -> new BigEndianNBTOutputBuffer();
+                case VARINT        -> new VarIntNBTOutputBuffer();
+            };
+        }
+        output.reset();
+        return output;
+    }
+
+    private static LittleEndianNBTInputBuffer create(NBTStream type, ByteBuffer data) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputBuffer(data);
+            case BIG_ENDIAN    -> new BigEndianNBTInputBuffer(data);
+            case VARINT        -> new VarIntNBTInputBuffer(data);
+        };
+    }
+
+}
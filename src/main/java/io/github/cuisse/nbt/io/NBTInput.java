@@ -69,6 +69,25 @@ public interface NBTInput extends AutoCloseable {
      */
     String readString();
 
+    /**
+     * Reads a single string from this input stream, reusing the instances held by the specified cache.
+     * @param cache The cache of decoded strings.
+     * @return The string read.
+     */
+    default String readString(StringCache cache) {
+        return readString();
+    }
+
+    /**
+     * Reads a single string from this input stream and looks it up in the specified table,
+     * comparing its encoded bytes instead of decoding it where the input allows it.
+     * @param names The table of names to match.
+     * @return The index of the string in the table, or {@code -1} if it is not in it.
+     */
+    default int readName(NameTable names) {
+        return names.indexOf(readString());
+    }
+
     /**
      * Reads a single int array from this input stream.
      * @return The int array read.
@@ -81,4 +100,32 @@ public interface NBTInput extends AutoCloseable {
      */
     long[] readLongArray();
 
+    /**
+     * Skips a single string in this input stream without decoding it.
+     */
+    default void skipString() {
+        readString();
+    }
+
+    /**
+     * Skips a single byte array in this input stream without allocating it.
+     */
+    default void skipByteArray() {
+        readByteArray();
+    }
+
+    /**
+     * Skips a single int array in this input stream without allocating it.
+     */
+    default void skipIntArray() {
+        readIntArray();
+    }
+
+    /**
+     * Skips a single long array in this input stream without allocating it.
+     */
+    default void skipLongArray() {
+        readLongArray();
+    }
+
 }
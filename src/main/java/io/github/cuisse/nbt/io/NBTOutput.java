@@ -1,5 +1,7 @@
 package io.github.cuisse.nbt.io;
 
+import java.nio.ByteBuffer;
+
 /**
  * An interface for writing NBT data.
  *
@@ -68,4 +70,45 @@ public interface NBTOutput extends AutoCloseable {
      */
     void writeLongArray(long[] value);
 
+    /**
+     * Writes the specified shorts to this output stream, one after the other and without their count.
+     * @param values The shorts to be written.
+     */
+    default void writeShorts(short[] values) {
+        for (short value : values) {
+            writeShort(value);
+        }
+    }
+
+    /**
+     * Writes the specified floats to this output stream, one after the other and without their count.
+     * @param values The floats to be written.
+     */
+    default void writeFloats(float[] values) {
+        for (float value : values) {
+            writeFloat(value);
+        }
+    }
+
+    /**
+     * Writes the specified doubles to this output stream, one after the other and without their count.
+     * @param values The doubles to be written.
+     */
+    default void writeDoubles(double[] values) {
+        for (double value : values) {
+            writeDouble(value);
+        }
+    }
+
+    /**
+     * Writes already encoded NBT data to this output stream if it was encoded in the same
+     * format as this output stream.
+     * @param stream The format of the encoded data.
+     * @param encoded The encoded data, from its position to its limit.
+     * @return {@code true} if the data was written, {@code false} if it must be encoded again.
+     */
+    default boolean writeEncoded(NBTStream stream, ByteBuffer encoded) {
+        return false;
+    }
+
 }
@@ -0,0 +1,157 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NamedTag;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} of the root tags read by a {@link NBTTagIterator}.
+ * <p>
+ * Tags are only decoded on demand: the source is read on the executor as long as the subscriber
+ * has requested more tags, and left alone otherwise, so a slow subscriber holds back the reading
+ * instead of letting tags pile up. The subscriber is called on the executor, one call at a time.
+ * The source is closed once all of its tags have been published, when it fails, or when the
+ * subscription is cancelled.
+ * <p>
+ * A publisher only has one source, so it accepts a single subscriber; the next ones are
+ * immediately notified of an {@link IllegalStateException}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class NBTPublisher implements Flow.Publisher<NamedTag> {
+
+    private final NBTTagIterator tags;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Creates a new publisher of the tags of the specified iterator.
+     *
+     * @param tags the tags to publish.
+     * @param executor the executor reading the tags and calling the subscriber.
+     * @throws NullPointerException if an argument is null.
+     */
+    public NBTPublisher(NBTTagIterator tags, Executor executor) {
+        if (tags == null) {
+            throw new NullPointerException("tags == null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("executor == null");
+        }
+        this.tags     = tags;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super NamedTag> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber == null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) { }
+
+                @Override
+                public void cancel() { }
+            });
+            subscriber.onError(new IllegalStateException("Publisher already subscribed"));
+            return;
+        }
+        var subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * The subscription of the subscriber, whose requests schedule a drain of the tags on the
+     * executor unless one is already running.
+     */
+    private final class Subscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super NamedTag> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalid;
+        private boolean done;
+
+        Subscription(Flow.Subscriber<? super NamedTag> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalid = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            try {
+                while (!cancelled && invalid == null && demand.get() > 0) {
+                    if (!tags.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    NamedTag tag = tags.next();
+                    demand.decrementAndGet();
+                    subscriber.onNext(tag);
+                }
+            } catch (Throwable exception) {
+                finish();
+                subscriber.onError(exception);
+                return;
+            }
+            if (invalid != null && !cancelled) {
+                finish();
+                subscriber.onError(invalid);
+            } else if (cancelled) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            done = true;
+            try {
+                tags.close();
+            } catch (RuntimeException ignored) {
+                // the outcome has already been decided
+            }
+        }
+
+    }
+
+}
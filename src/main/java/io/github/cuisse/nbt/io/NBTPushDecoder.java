@@ -0,0 +1,273 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+/**
+ * A decoder of root tags that are pushed to it in chunks of any size, as they arrive from a
+ * non-blocking channel.
+ * <p>
+ * Each chunk is decoded as far as it goes. When the data runs out in the middle of a tag, the
+ * decoder keeps the lists and compounds read so far, along with the bytes of the entry that was
+ * cut, and resumes from there when the next chunk is fed. Only those bytes are kept between
+ * chunks, not the whole tag. Completed tags are queued until they are {@link #poll() polled}:
+ * <pre>{@code
+ * decoder.feed(buffer);
+ * for (NamedTag tag; (tag = decoder.poll()) != null; ) {
+ *     handle(tag);
+ * }
+ * }</pre>
+ * The data must not be compressed. Since the lengths of the values come from the data itself,
+ * a value that would need more than a maximum number of buffered bytes, by default
+ * {@value #DEFAULT_MAX_BUFFERED}, is rejected as soon as its length is read instead of being
+ * waited for. Once malformed data has been fed, the decoder must be {@link #reset()} before
+ * being used again.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class NBTPushDecoder {
+
+    /**
+     * The default maximum number of bytes kept for a tag cut between two chunks.
+     */
+    public static final int DEFAULT_MAX_BUFFERED = 1 << 24;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final boolean named;
+    private final int maxBuffered;
+    private final LittleEndianNBTInputBuffer input;
+    private final IterativeNBTReader reader = new IterativeNBTReader();
+    private final IterativeNBTReader.Frames frames = new IterativeNBTReader.Frames(reader, Tag.MAX_DEPTH);
+    private final ArrayDeque<NamedTag> completed = new ArrayDeque<>();
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int start;
+    private int end;
+    private long wanted;
+    private int varInts;
+    private int scanned;
+
+    // the root tag being read, its type is null until its header has been read
+    private TagType type;
+    private String name;
+    private boolean opened;
+
+    /**
+     * Creates a new decoder of named root tags.
+     *
+     * @param type the NBT stream type.
+     */
+    public NBTPushDecoder(NBTStream type) {
+        this(type, true);
+    }
+
+    /**
+     * Creates a new decoder.
+     * <p>
+     * When the root tags are not named, as in the network format used since Minecraft 1.20.2,
+     * the type of each root tag is directly followed by its payload and the decoded tags have
+     * an empty name.
+     *
+     * @param type the NBT stream type.
+     * @param named whether the root tags are named.
+     * @throws NullPointerException if the type is null.
+     */
+    public NBTPushDecoder(NBTStream type, boolean named) {
+        this(type, named, DEFAULT_MAX_BUFFERED);
+    }
+
+    /**
+     * Creates a new decoder that keeps at most the specified number of bytes for a tag cut between
+     * two chunks.
+     *
+     * @param type the NBT stream type.
+     * @param named whether the root tags are named.
+     * @param maxBuffered the maximum number of bytes to wait for before a cut value can be read.
+     * @throws NullPointerException if the type is null.
+     * @throws IllegalArgumentException if the maximum is not positive.
+     */
+    public NBTPushDecoder(NBTStream type, boolean named, int maxBuffered) {
+        if (maxBuffered <= 0) {
+            throw new IllegalArgumentException("maxBuffered <= 0");
+        }
+        this.named       = named;
+        this.maxBuffered = maxBuffered;
+        this.input       = switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTInputBuffer(data);
+            case BIG_ENDIAN    -> new BigEndianNBTInputBuffer(data);
+            case VARINT        -> new VarIntNBTInputBuffer(data);
+        };
+    }
+
+    /**
+     * Decodes the remaining bytes of the specified buffer, which are all consumed.
+     *
+     * @param chunk the next bytes of the data.
+     * @throws NullPointerException if the chunk is null.
+     * @throws NBTException if the data is malformed, or a value needs more than the maximum
+     * number of buffered bytes.
+     */
+    public void feed(ByteBuffer chunk) {
+        int length = chunk.remaining();
+        append(length).put(chunk);
+        end += length;
+        decode();
+    }
+
+    /**
+     * Decodes the specified range of an array.
+     *
+     * @param chunk the next bytes of the data.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @throws NullPointerException if the chunk is null.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array.
+     * @throws NBTException if the data is malformed, or a value needs more than the maximum
+     * number of buffered bytes.
+     */
+    public void feed(byte[] chunk, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chunk.length);
+        append(length).put(chunk, offset, length);
+        end += length;
+        decode();
+    }
+
+    /**
+     * Returns the oldest completed tag that has not been polled yet.
+     *
+     * @return the next completed tag, or null if there is none.
+     */
+    public NamedTag poll() {
+        return completed.poll();
+    }
+
+    /**
+     * Returns whether some bytes of a tag have been fed without completing it, in which case
+     * the data is truncated if no more bytes are coming.
+     *
+     * @return whether a tag is partially decoded.
+     */
+    public boolean isPartial() {
+        return type != null || start < end;
+    }
+
+    /**
+     * Forgets the completed tags and the partially decoded one.
+     */
+    public void reset() {
+        completed.clear();
+        start   = 0;
+        end     = 0;
+        wanted  = 0;
+        varInts = 0;
+        type    = null;
+        name    = null;
+        opened  = false;
+        if (data.length > NBTContext.MAX_RETAINED_BYTES) {
+            data = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    private void decode() {
+        if (varInts > 0) {
+            // count the var-ints of the cut array as their last bytes arrive, without decoding them
+            for (; scanned < end && varInts > 0; scanned++) {
+                if (data[scanned] >= 0) {
+                    varInts--;
+                }
+            }
+            if (varInts > 0) {
+                return;
+            }
+        }
+        if (end < wanted) {
+            return; // the cut value is still incomplete
+        }
+        input.reset(data, start, end - start);
+        try {
+            while (type != null || input.remaining() > 0) {
+                NamedTag tag = advance();
+                start = input.position();
+                if (tag != null) {
+                    completed.add(tag);
+                }
+            }
+        } catch (NBTUnderflowException exception) {
+            if (end - start + exception.missing() > maxBuffered) {
+                throw new NBTException("Buffered data too large, " + (end - start + exception.missing()) + " bytes needed but at most " + maxBuffered + " allowed");
+            }
+            wanted  = end + exception.missing();
+            varInts = exception.varInts();
+            scanned = end;
+            return;
+        }
+        start  = 0;
+        end    = 0;
+        wanted = 0;
+        if (data.length > NBTContext.MAX_RETAINED_BYTES) {
+            data = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Reads the header of a root tag or the next entry of the current one, and returns the root tag once complete.
+     */
+    private NamedTag advance() {
+        if (type == null) {
+            var type = TagType.fromInt(input.readByte());
+            this.name = named ? reader.readName(input) : "";
+            this.type = type;
+            return null;
+        }
+        Tag tag;
+        if (opened) {
+            tag = frames.step(input);
+        } else if (type == TagType.TAG_List || type == TagType.TAG_Compound) {
+            tag = frames.open(input, type);
+            opened = tag == null;
+        } else {
+            tag = reader.readValue(input, type);
+        }
+        if (tag == null) {
+            return null;
+        }
+        var root = new NamedTag(name, tag);
+        type   = null;
+        name   = null;
+        opened = false;
+        return root;
+    }
+
+    /**
+     * Makes room for the specified number of bytes after the buffered ones.
+     */
+    private ByteBuffer append(int length) {
+        if (data.length - end < length) {
+            int buffered = end - start;
+            if ((long) buffered + length > Integer.MAX_VALUE - 8) {
+                throw new NBTException("Buffered data too large");
+            }
+            byte[] target = data;
+            if (data.length < buffered + length) {
+                target = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(buffered + length, data.length * 2L))];
+            }
+            System.arraycopy(data, start, target, 0, buffered);
+            data    = target;
+            wanted  -= start;
+            scanned -= start;
+            start    = 0;
+            end     = buffered;
+        }
+        return ByteBuffer.wrap(data, end, length);
+    }
+
+}
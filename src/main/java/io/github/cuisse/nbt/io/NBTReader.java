@@ -3,6 +3,7 @@ package io.github.cuisse.nbt.io;
 import io.github.cuisse.nbt.NamedTag;
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.*;
 
 /**
  * An interface for reading Tags.
@@ -30,4 +31,64 @@ public interface NBTReader {
      */
     Tag readTag(NBTInput input, TagType type, int depth);
 
+    /**
+     * Reads {@link NamedTag} from this input stream, reporting it to the specified visitor
+     * instead of building a Tag.
+     * By default the Tag is read with {@link #read(NBTInput)} and its tree is then reported to
+     * the visitor, readers that can report it while reading should override this method.
+     * @param input The input stream to read from.
+     * @param visitor The visitor to report the tag to.
+     */
+    default void read(NBTInput input, NBTVisitor visitor) {
+        NamedTag tag = read(input);
+        visit(visitor, tag.name(), tag.tag());
+    }
+
+    /**
+     * Skips the specified Tag's runtime in this input stream at the specified depth.
+     * By default the Tag is read and discarded.
+     * @param input The input stream to read from.
+     * @param type The type of the Tag.
+     * @param depth The depth of the Tag.
+     */
+    default void skipTag(NBTInput input, TagType type, int depth) {
+        readTag(input, type, depth);
+    }
+
+    /**
+     * Reports the specified Tag and, unless the visitor skips them, its entries to the visitor.
+     */
+    private static void visit(NBTVisitor visitor, String name, Tag tag) {
+        switch (tag.type()) {
+            case TAG_End        -> { }
+            case TAG_Byte       -> visitor.visitByte(name, ((ByteTag) tag).primitiveValue());
+            case TAG_Short      -> visitor.visitShort(name, ((ShortTag) tag).primitiveValue());
+            case TAG_Int        -> visitor.visitInt(name, ((IntTag) tag).primitiveValue());
+            case TAG_Long       -> visitor.visitLong(name, ((LongTag) tag).primitiveValue());
+            case TAG_Float      -> visitor.visitFloat(name, ((FloatTag) tag).primitiveValue());
+            case TAG_Double     -> visitor.visitDouble(name, ((DoubleTag) tag).primitiveValue());
+            case TAG_Byte_Array -> visitor.visitByteArray(name, ((ByteArrayTag) tag).value());
+            case TAG_String     -> visitor.visitString(name, ((StringTag) tag).value());
+            case TAG_Int_Array  -> visitor.visitIntArray(name, ((IntArrayTag) tag).value());
+            case TAG_Long_Array -> visitor.visitLongArray(name, ((LongArrayTag) tag).value());
+            case TAG_List -> {
+                var list = (ListTag) tag;
+                if (visitor.visitListStart(name, list.getType(), list.size())) {
+                    for (int i = 0; i < list.size(); i++) {
+                        visit(visitor, null, list.getAt(i));
+                    }
+                    visitor.visitListEnd();
+                }
+            }
+            case TAG_Compound -> {
+                if (visitor.visitCompoundStart(name)) {
+                    for (var cursor = ((CompoundTag) tag).cursor(); cursor.next(); ) {
+                        visit(visitor, cursor.name(), cursor.tag());
+                    }
+                    visitor.visitCompoundEnd();
+                }
+            }
+        }
+    }
+
 }
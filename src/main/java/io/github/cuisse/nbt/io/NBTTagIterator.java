@@ -0,0 +1,138 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the root tags written one after the other in a stream or a channel, such
+ * as an append-only log of compounds.
+ * <p>
+ * The data is read in chunks as tags are requested and decoded by a {@link NBTPushDecoder},
+ * so that the end of the data is told apart from a truncated tag without catching exceptions:
+ * iteration ends when the data ends between two tags, and {@link #hasNext()} throws a
+ * {@link NBTException} when it ends in the middle of one. The iterator must be closed,
+ * which closes the source.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class NBTTagIterator implements Iterator<NamedTag>, AutoCloseable {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ReadableByteChannel channel;
+    private final NBTPushDecoder decoder;
+    private final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+    private NamedTag next;
+    private boolean ended;
+
+    /**
+     * Creates a new iterator over the tags of the specified stream.
+     *
+     * @param type the NBT stream type.
+     * @param stream the stream to read from.
+     * @param compression the compression of the whole stream.
+     * @throws NullPointerException if an argument is null.
+     * @throws NBTException if the compression header cannot be read.
+     */
+    public NBTTagIterator(NBTStream type, InputStream stream, NBTCompression compression) {
+        this(type, Channels.newChannel(decompress(stream, compression)));
+    }
+
+    /**
+     * Creates a new iterator over the tags of the specified channel, which must be in blocking mode.
+     *
+     * @param type the NBT stream type.
+     * @param channel the channel to read from.
+     * @param compression the compression of the whole channel.
+     * @throws NullPointerException if an argument is null.
+     * @throws NBTException if the compression header cannot be read.
+     */
+    public NBTTagIterator(NBTStream type, ReadableByteChannel channel, NBTCompression compression) {
+        this(type, compression == NBTCompression.NONE ? channel : Channels.newChannel(decompress(Channels.newInputStream(channel), compression)));
+    }
+
+    private NBTTagIterator(NBTStream type, ReadableByteChannel channel) {
+        this.channel = channel;
+        this.decoder = new NBTPushDecoder(type);
+    }
+
+    /**
+     * Returns whether another tag follows, reading the data until it is complete.
+     *
+     * @return whether another tag follows.
+     * @throws NBTException if the data cannot be read, is malformed or ends in the middle of a tag.
+     */
+    @Override
+    public boolean hasNext() {
+        while (next == null && !ended) {
+            next = decoder.poll();
+            if (next == null) {
+                fill();
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public NamedTag next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        NamedTag tag = next;
+        next = null;
+        return tag;
+    }
+
+    /**
+     * Closes the source of the tags.
+     *
+     * @throws NBTException if the source cannot be closed.
+     */
+    @Override
+    public void close() {
+        ended = true;
+        next  = null;
+        decoder.reset();
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    private void fill() {
+        try {
+            int read = channel.read(chunk.clear());
+            if (read < 0) {
+                ended = true;
+                if (decoder.isPartial()) {
+                    throw new NBTException("Data ended in the middle of a tag");
+                }
+                return;
+            }
+            decoder.feed(chunk.flip());
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    private static InputStream decompress(InputStream stream, NBTCompression compression) {
+        try {
+            return compression.decompress(stream);
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+
+/**
+ * Thrown by {@link LittleEndianNBTInputBuffer} when a value goes past the end of its data,
+ * so that {@link NBTPushDecoder} can tell missing bytes apart from malformed ones and knows
+ * how much data to wait for before reading the value again.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class NBTUnderflowException extends NBTException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long missing;
+    private final int varInts;
+
+    /**
+     * Creates a new exception for a value of the specified length.
+     */
+    NBTUnderflowException(long length, int remaining) {
+        super("Not enough data available, expected " + length + " bytes but only " + remaining + " bytes available.");
+        this.missing = length - remaining;
+        this.varInts = 0;
+    }
+
+    /**
+     * Creates a new exception for an array cut before the end of the specified number of var-ints.
+     */
+    NBTUnderflowException(int varInts) {
+        super("Not enough data available, expected " + varInts + " more var-ints.");
+        this.missing = varInts;
+        this.varInts = varInts;
+    }
+
+    /**
+     * Returns the minimum number of bytes that were missing to read the value.
+     *
+     * @return the number of missing bytes.
+     */
+    long missing() {
+        return missing;
+    }
+
+    /**
+     * Returns the number of var-ints of the value whose final byte has not arrived yet,
+     * including the one cut partway, whose first bytes are already in the data, or 0 if the
+     * value is not an array of var-ints.
+     *
+     * @return the number of missing var-ints.
+     */
+    int varInts() {
+        return varInts;
+    }
+
+}
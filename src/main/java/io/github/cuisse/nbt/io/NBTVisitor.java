@@ -0,0 +1,117 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.TagType;
+
+/**
+ * An interface for receiving NBT data as a stream of events instead of a {@link io.github.cuisse.nbt.Tag} tree.
+ * <p>
+ * Every callback receives the name of the visited tag, which is {@code null} for list
+ * entries. All callbacks do nothing by default, so implementations only need to override
+ * the events they are interested in.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public interface NBTVisitor {
+
+    /**
+     * Visits a byte tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitByte(String name, byte value) { }
+
+    /**
+     * Visits a short tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitShort(String name, short value) { }
+
+    /**
+     * Visits an int tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitInt(String name, int value) { }
+
+    /**
+     * Visits a long tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitLong(String name, long value) { }
+
+    /**
+     * Visits a float tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitFloat(String name, float value) { }
+
+    /**
+     * Visits a double tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitDouble(String name, double value) { }
+
+    /**
+     * Visits a string tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitString(String name, String value) { }
+
+    /**
+     * Visits a byte array tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitByteArray(String name, byte[] value) { }
+
+    /**
+     * Visits an int array tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitIntArray(String name, int[] value) { }
+
+    /**
+     * Visits a long array tag.
+     * @param name The name of the tag.
+     * @param value The value of the tag.
+     */
+    default void visitLongArray(String name, long[] value) { }
+
+    /**
+     * Visits the start of a list tag.
+     * @param name The name of the tag.
+     * @param type The type of the list entries.
+     * @param size The number of entries.
+     * @return {@code true} to visit the entries, {@code false} to skip the whole list.
+     */
+    default boolean visitListStart(String name, TagType type, int size) {
+        return true;
+    }
+
+    /**
+     * Visits the end of a list tag whose entries were visited.
+     */
+    default void visitListEnd() { }
+
+    /**
+     * Visits the start of a compound tag.
+     * @param name The name of the tag.
+     * @return {@code true} to visit the entries, {@code false} to skip the whole compound.
+     */
+    default boolean visitCompoundStart(String name) {
+        return true;
+    }
+
+    /**
+     * Visits the end of a compound tag whose entries were visited.
+     */
+    default void visitCompoundEnd() { }
+
+}
@@ -0,0 +1,117 @@
+package io.github.cuisse.nbt.io;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable set of names indexed by their encoded UTF-8 bytes, used to match the names
+ * of NBT data against known keys without decoding them.
+ * <p>
+ * Names are looked up by the hash of their encoded bytes in an open-addressing table, so an
+ * input can tell whether the name it is about to read is one of them, and which one, by
+ * comparing bytes only.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class NameTable {
+
+    private final String[] names;
+    private final byte[][] encoded;
+    private final int[] hashes;
+    private final int[] slots;
+    private final int mask;
+
+    /**
+     * Creates a new table holding the specified names.
+     *
+     * @param names the names of the table, their index is their position in this array.
+     * @throws NullPointerException if a name is null.
+     * @throws IllegalArgumentException if a name is repeated.
+     */
+    public NameTable(String... names) {
+        int size = Integer.highestOneBit(Math.max(1, names.length) * 2 - 1) << 1;
+        this.names   = names.clone();
+        this.encoded = new byte[names.length][];
+        this.hashes  = new int[names.length];
+        this.slots   = new int[size];
+        this.mask    = size - 1;
+        Arrays.fill(slots, -1);
+        for (int i = 0; i < names.length; i++) {
+            byte[] bytes = names[i].getBytes(StandardCharsets.UTF_8);
+            if (indexOf(bytes, 0, bytes.length) >= 0) {
+                throw new IllegalArgumentException("Duplicate name: " + names[i]);
+            }
+            int hash = hash(bytes, 0, bytes.length);
+            int slot = hash & mask;
+            while (slots[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            encoded[i] = bytes;
+            hashes[i]  = hash;
+            slots[slot] = i;
+        }
+    }
+
+    /**
+     * Returns the number of names of this table.
+     *
+     * @return the number of names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the name at the specified index.
+     *
+     * @param index the index of the name.
+     * @return the name at the index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the index of the name encoded by the specified UTF-8 bytes.
+     *
+     * @param bytes the array holding the encoded name.
+     * @param offset the offset of the encoded name.
+     * @param length the length of the encoded name.
+     * @return the index of the name, or {@code -1} if it is not in this table.
+     */
+    public int indexOf(byte[] bytes, int offset, int length) {
+        int hash = hash(bytes, offset, length);
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int index = slots[slot];
+            if (index < 0) {
+                return -1;
+            }
+            byte[] name = encoded[index];
+            if (hashes[index] == hash && Arrays.equals(name, 0, name.length, bytes, offset, offset + length)) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the specified name.
+     *
+     * @param name the name to look up.
+     * @return the index of the name, or {@code -1} if it is not in this table.
+     */
+    public int indexOf(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        return indexOf(bytes, 0, bytes.length);
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+}
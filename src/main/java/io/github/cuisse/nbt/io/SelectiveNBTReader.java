@@ -0,0 +1,211 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.CompoundTag;
+import io.github.cuisse.nbt.tags.ListTag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A class for reading only selected paths of NBT data from an input stream.
+ * <p>
+ * Paths are made of compound keys separated by dots, a key followed by {@code []} selects
+ * every entry of a list, for example {@code Level.Sections[].BlockStates} or {@code DataVersion}.
+ * Paths are relative to the root compound. Everything outside the selected paths is skipped
+ * by length without being decoded, keys are matched on their encoded bytes so that the names
+ * of skipped tags are never decoded either, and the result only contains the selected tags.
+ * List entries that do not contain any selected tag are kept as empty compounds or lists, so
+ * that indices are preserved.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class SelectiveNBTReader {
+
+    private final NBTReader reader;
+    private final Node root;
+
+    /**
+     * Creates a new reader that selects the specified paths.
+     *
+     * @param paths the paths to select.
+     * @throws IllegalArgumentException if a path is malformed.
+     */
+    public SelectiveNBTReader(String... paths) {
+        this(new SimpleNBTReader(), paths);
+    }
+
+    /**
+     * Creates a new reader that selects the specified paths, decoding them with the specified reader.
+     *
+     * @param reader the reader used to decode and skip tags.
+     * @param paths the paths to select.
+     * @throws IllegalArgumentException if a path is malformed.
+     */
+    public SelectiveNBTReader(NBTReader reader, String... paths) {
+        if (reader == null) {
+            throw new NullPointerException("reader == null");
+        }
+        this.reader = reader;
+        this.root   = compile(paths);
+    }
+
+    /**
+     * Reads the selected paths of a {@link NamedTag} from this input stream.
+     * @param input The input stream to read from.
+     * @return The Tag read, its tag is {@link CompoundTag#DEFAULT} if nothing was selected.
+     */
+    public NamedTag read(NBTInput input) {
+        var type = TagType.fromInt(input.readByte());
+        var name = input.readString();
+        return new NamedTag(name, readTag(input, type, Tag.MAX_DEPTH));
+    }
+
+    /**
+     * Reads the selected paths of the specified Tag's runtime from this input stream at the specified depth.
+     * @param input The input stream to read from.
+     * @param type The type of the Tag.
+     * @param depth The depth of the Tag.
+     * @return The Tag read, {@link CompoundTag#DEFAULT} if nothing was selected.
+     */
+    public Tag readTag(NBTInput input, TagType type, int depth) {
+        Tag tag = readSelected(input, type, root, depth);
+        return tag != null ? tag : CompoundTag.DEFAULT;
+    }
+
+    private Tag readSelected(NBTInput input, TagType type, Node node, int depth) {
+        if (depth <= 0) {
+            throw new NBTException("NBT tag depth exceeded");
+        }
+        if (node.terminal) {
+            return reader.readTag(input, type, depth);
+        }
+        if (type == TagType.TAG_Compound && node.names.size() > 0) {
+            return readCompoundTag(input, node, depth);
+        }
+        if (type == TagType.TAG_List && node.entries != null) {
+            return readListTag(input, node.entries, depth);
+        }
+        reader.skipTag(input, type, depth);
+        return null;
+    }
+
+    private CompoundTag readCompoundTag(NBTInput input, Node node, int depth) {
+        String[] names = null;
+        Tag[] tags     = null;
+        int size       = 0;
+        while (true) {
+            var type = TagType.fromInt(input.readByte());
+            if (type == TagType.TAG_End) {
+                break;
+            }
+            int index = input.readName(node.names);
+            if (index < 0) {
+                reader.skipTag(input, type, depth - 1);
+                continue;
+            }
+            Tag tag = readSelected(input, type, node.children[index], depth - 1);
+            if (tag != null) {
+                if (names == null) {
+                    names = new String[node.names.size()];
+                    tags  = new Tag[node.names.size()];
+                } else if (size == names.length) {
+                    names = Arrays.copyOf(names, size * 2);
+                    tags  = Arrays.copyOf(tags, size * 2);
+                }
+                names[size] = node.names.name(index);
+                tags[size]  = tag;
+                size++;
+            }
+        }
+        if (size == 0) {
+            return null;
+        }
+        return size == names.length ? CompoundTag.create(names, tags) : CompoundTag.create(Arrays.copyOf(names, size), Arrays.copyOf(tags, size));
+    }
+
+    private ListTag readListTag(NBTInput input, Node node, int depth) {
+        var type = TagType.fromInt(input.readByte());
+        int size = input.readInt();
+        if (size < 0) {
+            throw new NBTException("Negative list size: " + size);
+        }
+        var list = new ArrayList<Tag>(Math.min(size, input.remaining()));
+        boolean selected = false;
+        for (int i = 0; i < size; i++) {
+            Tag tag = readSelected(input, type, node, depth - 1);
+            if (tag != null) {
+                selected = true;
+                list.add(tag);
+            } else if (type == TagType.TAG_Compound) {
+                list.add(CompoundTag.DEFAULT);
+            } else if (type == TagType.TAG_List) {
+                list.add(ListTag.DEFAULT);
+            }
+        }
+        return selected ? ListTag.create(type, list) : null;
+    }
+
+    private static Node compile(String... paths) {
+        var root = new Node();
+        for (String path : paths) {
+            if (path == null || path.isEmpty()) {
+                throw new IllegalArgumentException("Path cannot be empty");
+            }
+            Node node = root;
+            for (String segment : path.split("\\.", -1)) {
+                String name = segment;
+                int lists = 0;
+                while (name.endsWith("[]")) {
+                    name = name.substring(0, name.length() - 2);
+                    lists++;
+                }
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Invalid path: " + path);
+                }
+                node = node.paths.computeIfAbsent(name, key -> new Node());
+                for (int i = 0; i < lists; i++) {
+                    if (node.entries == null) {
+                        node.entries = new Node();
+                    }
+                    node = node.entries;
+                }
+            }
+            node.terminal = true;
+        }
+        root.freeze();
+        return root;
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> paths = new LinkedHashMap<>();
+        private NameTable names;
+        private Node[] children;
+        private Node entries;
+        private boolean terminal;
+
+        /**
+         * Indexes the children of this node by their encoded names, once every path has been added.
+         */
+        private void freeze() {
+            names    = new NameTable(paths.keySet().toArray(String[]::new));
+            children = paths.values().toArray(Node[]::new);
+            paths    = null;
+            for (Node child : children) {
+                child.freeze();
+            }
+            if (entries != null) {
+                entries.freeze();
+            }
+        }
+
+    }
+
+}
@@ -6,7 +6,7 @@ import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
 import io.github.cuisse.nbt.tags.*;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
  * A class for reading NBT data from an input stream in simple format.
@@ -16,10 +16,65 @@ import java.util.HashMap;
  */
 public class SimpleNBTReader implements NBTReader {
 
+    static final int MAX_PREALLOCATED_ENTRIES = 1 << 16;
+
+    private final boolean lazy;
+    private final boolean shared;
+    private final StringCache cache;
+    private SimpleNBTReader sharedReader;
+
+    /**
+     * Creates a new reader that decodes every tag eagerly.
+     */
+    public SimpleNBTReader() {
+        this(false);
+    }
+
+    /**
+     * Creates a new reader.
+     * <p>
+     * When lazy, compound tags read from a {@link LittleEndianNBTInputBuffer} are returned as
+     * {@link LazyCompoundTag}s that decode their children on first access, and list tags keep
+     * the bytes they were read from. Both are written back as a raw copy by {@link SimpleNBTWriter}.
+     *
+     * @param lazy whether compound tags should be decoded lazily.
+     */
+    public SimpleNBTReader(boolean lazy) {
+        this(lazy, null);
+    }
+
+    /**
+     * Creates a new reader that decodes every tag eagerly and shares the names and
+     * string values it reads through the specified cache.
+     *
+     * @param cache the cache of decoded strings.
+     * @since 2.1.0
+     */
+    public SimpleNBTReader(StringCache cache) {
+        this(false, cache);
+    }
+
+    /**
+     * Creates a new reader.
+     *
+     * @param lazy whether compound tags should be decoded lazily.
+     * @param cache the cache of decoded strings, or null to decode every string.
+     * @since 2.1.0
+     */
+    public SimpleNBTReader(boolean lazy, StringCache cache) {
+        this(lazy, false, cache);
+    }
+
+    SimpleNBTReader(boolean lazy, boolean shared, StringCache cache) {
+        this.lazy   = lazy;
+        this.shared = shared;
+        this.cache  = cache;
+    }
+
     @Override
     public NamedTag read(NBTInput input) {
         var type = TagType.fromInt(input.readByte());
-        return new NamedTag(input.readString(), readTag(input, type, Tag.MAX_DEPTH));
+        return new NamedTag(readName(input), readTag(input, type, Tag.MAX_DEPTH));
     }
 
     @Override
@@ -32,6 +87,17 @@ public class SimpleNBTReader implements NBTReader {
         if (depth <= 0) {
             throw new NBTException("NBT tag depth exceeded");
         }
+        return switch (type) {
+            case TAG_List     -> readListTag(input, depth);
+            case TAG_Compound -> readCompoundTag(input, depth);
+            default           -> readValue(input, type);
+        };
+    }
+
+    /**
+     * Reads a tag that does not contain other tags.
+     */
+    Tag readValue(NBTInput input, TagType type) {
         return switch (type) {
             case TAG_End        -> EndTag.create();
             case TAG_Byte       -> ByteTag.create(input.readByte());
@@ -41,38 +107,271 @@ public class SimpleNBTReader implements NBTReader {
             case TAG_Float      -> FloatTag.create(input.readFloat());
             case TAG_Double     -> DoubleTag.create(input.readDouble());
             case TAG_Byte_Array -> ByteArrayTag.create(input.readByteArray());
-            case TAG_String     -> StringTag.create(input.readString());
-            case TAG_List       -> readListTag(input, depth);
-            case TAG_Compound   -> readCompoundTag(input, depth);
+            case TAG_String     -> readStringTag(input);
             case TAG_Int_Array  -> IntArrayTag.create(input.readIntArray());
             case TAG_Long_Array -> LongArrayTag.create(input.readLongArray());
+            case TAG_List, TAG_Compound -> throw new IllegalArgumentException("Not a value type: " + type);
         };
     }
 
-    private ListTag readListTag(NBTInput input, int depth) {
+    @Override
+    public void read(NBTInput input, NBTVisitor visitor) {
         var type = TagType.fromInt(input.readByte());
-        int size = input.readInt();
-        if (size > depth) {
+        visitTag(input, visitor, type, readName(input), Tag.MAX_DEPTH);
+    }
+
+    @Override
+    public void skipTag(NBTInput input, TagType type, int depth) {
+        if (depth <= 0) {
+            throw new NBTException("NBT tag depth exceeded");
+        }
+        switch (type) {
+            case TAG_End        -> { }
+            case TAG_Byte       -> skipFully(input, Byte.BYTES);
+            case TAG_Short      -> skipFully(input, Short.BYTES);
+            case TAG_Int        -> input.readInt();
+            case TAG_Long       -> input.readLong();
+            case TAG_Float      -> skipFully(input, Float.BYTES);
+            case TAG_Double     -> skipFully(input, Double.BYTES);
+            case TAG_Byte_Array -> input.skipByteArray();
+            case TAG_String     -> input.skipString();
+            case TAG_List       -> skipListTag(input, depth);
+            case TAG_Compound   -> skipCompoundTag(input, depth);
+            case TAG_Int_Array  -> input.skipIntArray();
+            case TAG_Long_Array -> input.skipLongArray();
+        }
+    }
+
+    private void visitTag(NBTInput input, NBTVisitor visitor, TagType type, String name, int depth) {
+        if (depth <= 0) {
             throw new NBTException("NBT tag depth exceeded");
         }
-        var list = new Tag[size];
+        switch (type) {
+            case TAG_End        -> { }
+            case TAG_Byte       -> visitor.visitByte(name, input.readByte());
+            case TAG_Short      -> visitor.visitShort(name, input.readShort());
+            case TAG_Int        -> visitor.visitInt(name, input.readInt());
+            case TAG_Long       -> visitor.visitLong(name, input.readLong());
+            case TAG_Float      -> visitor.visitFloat(name, input.readFloat());
+            case TAG_Double     -> visitor.visitDouble(name, input.readDouble());
+            case TAG_Byte_Array -> visitor.visitByteArray(name, input.readByteArray());
+            case TAG_String     -> visitor.visitString(name, readName(input));
+            case TAG_List       -> visitListTag(input, visitor, name, depth);
+            case TAG_Compound   -> visitCompoundTag(input, visitor, name, depth);
+            case TAG_Int_Array  -> visitor.visitIntArray(name, input.readIntArray());
+            case TAG_Long_Array -> visitor.visitLongArray(name, input.readLongArray());
+        }
+    }
+
+    private void visitListTag(NBTInput input, NBTVisitor visitor, String name, int depth) {
+        var type = TagType.fromInt(input.readByte());
+        int size = readListSize(input);
+        if (visitor.visitListStart(name, type, size)) {
+            for (int i = 0; i < size; i++) {
+                visitTag(input, visitor, type, null, depth - 1);
+            }
+            visitor.visitListEnd();
+        } else {
+            skipListEntries(input, type, size, depth);
+        }
+    }
+
+    private void visitCompoundTag(NBTInput input, NBTVisitor visitor, String name, int depth) {
+        if (visitor.visitCompoundStart(name)) {
+            while (true) {
+                var type = TagType.fromInt(input.readByte());
+                if (type == TagType.TAG_End) {
+                    break;
+                }
+                visitTag(input, visitor, type, readName(input), depth - 1);
+            }
+            visitor.visitCompoundEnd();
+        } else {
+            skipCompoundTag(input, depth);
+        }
+    }
+
+    private void skipListTag(NBTInput input, int depth) {
+        var type = TagType.fromInt(input.readByte());
+        skipListEntries(input, type, readListSize(input), depth);
+    }
+
+    private void skipListEntries(NBTInput input, TagType type, int size, int depth) {
+        switch (type) {
+            case TAG_Byte   -> skipFully(input, (long) size * Byte.BYTES);
+            case TAG_Short  -> skipFully(input, (long) size * Short.BYTES);
+            case TAG_Float  -> skipFully(input, (long) size * Float.BYTES);
+            case TAG_Double -> skipFully(input, (long) size * Double.BYTES);
+            default -> {
+                for (int i = 0; i < size; i++) {
+                    skipTag(input, type, depth - 1);
+                }
+            }
+        }
+    }
+
+    private void skipCompoundTag(NBTInput input, int depth) {
+        while (true) {
+            var type = TagType.fromInt(input.readByte());
+            if (type == TagType.TAG_End) {
+                break;
+            }
+            input.skipString();
+            skipTag(input, type, depth - 1);
+        }
+    }
+
+    /**
+     * Reads a string, through the cache of this reader if it has one.
+     */
+    String readName(NBTInput input) {
+        return cache != null ? input.readString(cache) : input.readString();
+    }
+
+    private StringTag readStringTag(NBTInput input) {
+        return cache != null ? cache.tag(input.readString(cache)) : StringTag.create(input.readString());
+    }
+
+    int readListSize(NBTInput input) {
+        int size = input.readInt();
+        if (size < 0) {
+            throw new NBTException("Negative list size: " + size);
+        }
+        return size;
+    }
+
+    private void skipFully(NBTInput input, long length) {
+        if (length > Integer.MAX_VALUE || input.skipBytes((int) length) != length) {
+            throw new NBTException("Not enough data available, expected " + length + " bytes.");
+        }
+    }
+
+    private ListTag readListTag(NBTInput input, int depth) {
+        if (lazy && input instanceof LittleEndianNBTInputBuffer buffer) {
+            int start = buffer.position();
+            if (shared) {
+                var list = readListEntries(buffer, depth);
+                if (list.getClass() != ListTag.class) {
+                    return list; // primitive lists are cheap to write back
+                }
+                return new EncodedListTag(list.getType(), list.value(), buffer.stream(), buffer.encoded(start, true));
+            }
+            var type = TagType.fromInt(buffer.readByte());
+            var primitives = readPrimitiveList(buffer, type);
+            if (primitives != null) {
+                return primitives;
+            }
+            // copy the list once, its entries are then read as views into the copy
+            skipListEntries(buffer, type, readListSize(buffer), depth);
+            var encoded = buffer.encoded(start, false);
+            var list = sharedReader().readListEntries(LazyCompoundTag.input(buffer.stream(), encoded.duplicate()), depth);
+            return new EncodedListTag(list.getType(), list.value(), buffer.stream(), encoded);
+        }
+        return readListEntries(input, depth);
+    }
+
+    /**
+     * Returns a reader like this one that shares the bytes it reads instead of copying them.
+     */
+    private SimpleNBTReader sharedReader() {
+        SimpleNBTReader reader = this.sharedReader;
+        if (reader == null) {
+            this.sharedReader = reader = new SimpleNBTReader(lazy, true, cache);
+        }
+        return reader;
+    }
+
+    private ListTag readListEntries(NBTInput input, int depth) {
+        var type = TagType.fromInt(input.readByte());
+        var primitives = readPrimitiveList(input, type);
+        if (primitives != null) {
+            return primitives;
+        }
+        int size = readListSize(input);
+        var list = ListTag.builder(type, Math.min(size, MAX_PREALLOCATED_ENTRIES));
         for (int i = 0; i < size; i++) {
-            list[i] = readTag(input, type, depth - 1);
+            list.add(readTag(input, type, depth - 1));
         }
-        return ListTag.create(list);
+        return list.build();
+    }
+
+    /**
+     * Reads the size and entries of a list of primitives, or returns null without reading
+     * anything if the entries are of another type.
+     */
+    ListTag readPrimitiveList(NBTInput input, TagType type) {
+        return switch (type) {
+            // the size and entries of these lists are encoded like the matching array tags
+            case TAG_Byte   -> ByteListTag.create(input.readByteArray());
+            case TAG_Int    -> IntListTag.create(input.readIntArray());
+            case TAG_Long   -> LongListTag.create(input.readLongArray());
+            case TAG_Short  -> readShortList(input);
+            case TAG_Float  -> readFloatList(input);
+            case TAG_Double -> readDoubleList(input);
+            default         -> null;
+        };
+    }
+
+    private ShortListTag readShortList(NBTInput input) {
+        int size = readListSize(input);
+        var values = new short[Math.min(size, MAX_PREALLOCATED_ENTRIES)];
+        for (int i = 0; i < size; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(size, i * 2L));
+            }
+            values[i] = input.readShort();
+        }
+        return ShortListTag.create(values);
+    }
+
+    private FloatListTag readFloatList(NBTInput input) {
+        int size = readListSize(input);
+        var values = new float[Math.min(size, MAX_PREALLOCATED_ENTRIES)];
+        for (int i = 0; i < size; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(size, i * 2L));
+            }
+            values[i] = input.readFloat();
+        }
+        return FloatListTag.create(values);
+    }
+
+    private DoubleListTag readDoubleList(NBTInput input) {
+        int size = readListSize(input);
+        var values = new double[Math.min(size, MAX_PREALLOCATED_ENTRIES)];
+        for (int i = 0; i < size; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(size, i * 2L));
+            }
+            values[i] = input.readDouble();
+        }
+        return DoubleListTag.create(values);
     }
 
     private CompoundTag readCompoundTag(NBTInput input, int depth) {
-        var compound = new HashMap<String, Tag>();
+        if (lazy && input instanceof LittleEndianNBTInputBuffer buffer) {
+            return LazyCompoundTag.read(this, buffer, depth, shared);
+        }
+        var names = new String[8];
+        var tags  = new Tag[8];
+        int size  = 0;
         while (true) {
             var type = TagType.fromInt(input.readByte());
             if (type == TagType.TAG_End) {
                 break;
             }
-            String name = input.readString();
-            compound.put(name, readTag(input, type, depth - 1));
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                tags  = Arrays.copyOf(tags, size * 2);
+            }
+            names[size] = readName(input);
+            tags[size]  = readTag(input, type, depth - 1);
+            size++;
+        }
+        if (size == 0) {
+            return CompoundTag.DEFAULT;
         }
-        return CompoundTag.create(compound);
+        return CompoundTag.create(Arrays.copyOf(names, size), Arrays.copyOf(tags, size));
     }
 
 }
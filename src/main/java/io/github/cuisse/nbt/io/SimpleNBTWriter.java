@@ -31,6 +31,20 @@ public class SimpleNBTWriter implements NBTWriter {
         if (depth <= 0) {
             throw new IllegalArgumentException("Depth limit exceeded");
         }
+        if (tag instanceof EncodedTag encoded && output.writeEncoded(encoded.stream(), encoded.encoded())) {
+            return; // unmodified since it was read, copy its original encoding
+        }
+        switch (tag.type()) {
+            case TAG_List     -> writeListTag(output, (ListTag) tag, depth);
+            case TAG_Compound -> writeCompoundTag(output, (CompoundTag) tag, depth);
+            default           -> writeValue(output, tag);
+        }
+    }
+
+    /**
+     * Writes a tag that does not contain other tags.
+     */
+    void writeValue(NBTOutput output, Tag tag) {
         switch (tag.type()) {
             case TAG_End        -> output.writeByte((byte) TagType.TAG_End.ordinal());
             case TAG_Byte       -> output.writeByte(((ByteTag) tag).value());
@@ -41,28 +55,55 @@ public class SimpleNBTWriter implements NBTWriter {
             case TAG_Double     -> output.writeDouble(((DoubleTag) tag).value());
             case TAG_Byte_Array -> output.writeByteArray(((ByteArrayTag) tag).value());
             case TAG_String     -> output.writeString(((StringTag) tag).value());
-            case TAG_List       -> writeListTag(output, (ListTag) tag, depth);
-            case TAG_Compound   -> writeCompoundTag(output, (CompoundTag) tag, depth);
             case TAG_Int_Array  -> output.writeIntArray(((IntArrayTag) tag).value());
             case TAG_Long_Array -> output.writeLongArray(((LongArrayTag) tag).value());
             default             -> throw new IllegalArgumentException("Unknown tag type");
         }
     }
 
-    private byte getTagType(Tag tag) {
+    byte getTagType(Tag tag) {
         return (byte) tag.type().ordinal();
     }
 
     private void writeListTag(NBTOutput output, ListTag list, int depth) {
         output.writeByte((byte) list.getType().ordinal());
-        output.writeInt(list.value().size());
-        for (Tag tag : list.value()) {
-            write(output, tag, depth - 1);
+        if (!writePrimitiveList(output, list)) {
+            output.writeInt(list.size());
+            for (Tag tag : list.value()) {
+                write(output, tag, depth - 1);
+            }
+        }
+    }
+
+    /**
+     * Writes the size and entries of a list of primitives, or returns false without writing
+     * anything if the list holds other tags.
+     */
+    boolean writePrimitiveList(NBTOutput output, ListTag list) {
+        // the size and entries of these lists are encoded like the matching array tags
+        if (list instanceof ByteListTag bytes) {
+            output.writeByteArray(bytes.array());
+        } else if (list instanceof IntListTag ints) {
+            output.writeIntArray(ints.array());
+        } else if (list instanceof LongListTag longs) {
+            output.writeLongArray(longs.array());
+        } else if (list instanceof ShortListTag shorts) {
+            output.writeInt(shorts.size());
+            output.writeShorts(shorts.array());
+        } else if (list instanceof FloatListTag floats) {
+            output.writeInt(floats.size());
+            output.writeFloats(floats.array());
+        } else if (list instanceof DoubleListTag doubles) {
+            output.writeInt(doubles.size());
+            output.writeDoubles(doubles.array());
+        } else {
+            return false;
         }
+        return true;
     }
 
     private void writeCompoundTag(NBTOutput output, CompoundTag compound, int depth) {
-        compound.value().forEach((name, tag) -> {
+        compound.forEach((name, tag) -> {
             output.writeByte(getTagType(tag));
             output.writeString(name);
             write(output, tag, depth - 1); // write named tag
@@ -0,0 +1,135 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.tags.StringTag;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A bounded cache of decoded strings, used to share the names and values that
+ * repeat across NBT data such as {@code "id"}, {@code "Count"} or {@code "minecraft:stone"}.
+ * <p>
+ * Strings are looked up by the hash of their encoded UTF-8 bytes, so a hit returns the
+ * cached instance without decoding anything. Each hash maps to a single slot that is
+ * overwritten on collision, which keeps the cache bounded and lookups constant-time.
+ * Strings longer than the maximum length are decoded without being cached.
+ * <p>
+ * A cache can be shared between readers and threads.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class StringCache {
+
+    /**
+     * The default number of slots of a cache.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The default maximum length, in encoded bytes, of a cached string.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Entry[] entries;
+    private final StringTag[] tags;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates a new cache with the default capacity and maximum length.
+     */
+    public StringCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity the number of slots, rounded up to a power of two.
+     * @param maxLength the maximum length, in encoded bytes, of a cached string.
+     * @throws IllegalArgumentException if the capacity is not positive or the maximum length is negative.
+     */
+    public StringCache(int capacity, int maxLength) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength < 0");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries   = new Entry[size];
+        this.tags      = new StringTag[size];
+        this.mask      = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the string encoded by the specified UTF-8 bytes, reusing a cached instance if present.
+     *
+     * @param bytes the array holding the encoded string.
+     * @param offset the offset of the encoded string.
+     * @param length the length of the encoded string.
+     * @return the decoded string.
+     */
+    public String decode(byte[] bytes, int offset, int length) {
+        if (length > maxLength) {
+            return new String(bytes, offset, length, StandardCharsets.UTF_8);
+        }
+        int hash = hash(bytes, offset, length);
+        int index = hash & mask;
+        Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, offset, offset + length)) {
+            return entry.value;
+        }
+        String value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        entries[index] = new Entry(Arrays.copyOfRange(bytes, offset, offset + length), hash, value);
+        return value;
+    }
+
+    /**
+     * Returns a {@link StringTag} holding the specified value, reusing a cached instance if present.
+     *
+     * @param value the value of the tag.
+     * @return the string tag.
+     * @throws NullPointerException if the value is null.
+     */
+    public StringTag tag(String value) {
+        int index = spread(value.hashCode()) & mask;
+        StringTag tag = tags[index];
+        if (tag != null && (tag.value() == value || tag.value().equals(value))) {
+            return tag;
+        }
+        tag = StringTag.create(value);
+        if (value.length() <= maxLength && Utf8.encodedLength(value) <= maxLength) { // chars never outnumber bytes
+            tags[index] = tag;
+        }
+        return tag;
+    }
+
+    /**
+     * Removes every cached string and tag.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+        Arrays.fill(tags, null);
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return spread(hash);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Entry(byte[] bytes, int hash, String value) {
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.cuisse.nbt.io;
+
+/**
+ * Helpers for encoding strings into UTF-8 without intermediate arrays.
+ * <p>
+ * Pure ASCII strings, which cover nearly every name and identifier, are copied one byte
+ * per char; other strings are encoded like {@link String#getBytes(java.nio.charset.Charset)},
+ * replacing unpaired surrogates with {@code '?'}.
+ * <p>
+ * This class is public only so that the other packages of the library size strings exactly
+ * like the outputs encode them; it is not meant to be used by applications.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class Utf8 {
+
+    /**
+     * Returns the number of bytes needed to encode the specified string.
+     *
+     * @param value the string to measure.
+     * @return the encoded length of the string.
+     */
+    public static int encodedLength(String value) {
+        int length = value.length();
+        int encoded = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    encoded += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    encoded += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    encoded += 2;
+                }
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Encodes the specified string into the specified array.
+     *
+     * @param value the string to encode.
+     * @param bytes the array to encode into.
+     * @param offset the offset to encode at, the array must hold the
+     *               {@linkplain #encodedLength(String) encoded length} of the string from there.
+     */
+    static void encode(String value, byte[] bytes, int offset) {
+        int chars = value.length();
+        int i = 0;
+        for (char c; i < chars && (c = value.charAt(i)) < 0x80; i++) {
+            bytes[offset + i] = (byte) c;
+        }
+        offset += i;
+        for (; i < chars; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[offset++] = (byte) (0xC0 | c >> 6);
+                bytes[offset++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[offset++] = (byte) (0xF0 | codePoint >> 18);
+                bytes[offset++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                bytes[offset++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                bytes[offset++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                bytes[offset++] = '?';
+            } else {
+                bytes[offset++] = (byte) (0xE0 | c >> 12);
+                bytes[offset++] = (byte) (0x80 | c >> 6 & 0x3F);
+                bytes[offset++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private Utf8() {
+        // nope
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A class for reading NBT data directly from a byte buffer in var-int format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class VarIntNBTInputBuffer extends LittleEndianNBTInputBuffer {
+
+    public VarIntNBTInputBuffer(byte[] data) {
+        super(data);
+    }
+
+    public VarIntNBTInputBuffer(ByteBuffer buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public int readInt() {
+        return decodeZigZag32(
+                readUnsignedVarInt()
+        );
+    }
+
+    @Override
+    public long readLong() {
+        return decodeZigZag64(
+                readUnsignedVarLong()
+        );
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(
+                super.readInt()
+        );
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(
+                super.readLong()
+        );
+    }
+
+    @Override
+    public String readString() {
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ));
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(
+                readUnsignedVarInt()
+        ), names);
+    }
+
+    @Override
+    public int[] readIntArray() {
+        int[] ints = new int[assertAvailable(readInt())];
+        int i = 0;
+        try {
+            for (; i < ints.length; i++) {
+                ints[i] = readInt();
+            }
+        } catch (NBTUnderflowException exception) {
+            throw truncated(ints.length - i);
+        }
+        return ints;
+    }
+
+    @Override
+    public long[] readLongArray() {
+        long[] longs = new long[assertAvailable(readInt())];
+        int i = 0;
+        try {
+            for (; i < longs.length; i++) {
+                longs[i] = readLong();
+            }
+        } catch (NBTUnderflowException exception) {
+            throw truncated(longs.length - i);
+        }
+        return longs;
+    }
+
+    @Override
+    public void skipString() {
+        int length = assertAvailable(readUnsignedVarInt());
+        advance(length);
+    }
+
+    @Override
+    public void skipIntArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarInt();
+        }
+    }
+
+    @Override
+    public void skipLongArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarLong();
+        }
+    }
+
+    /**
+     * Reports that an array ran out of data with the specified number of entries left, so that
+     * {@link NBTPushDecoder} waits for all of them before decoding the array again.
+     */
+    private NBTUnderflowException truncated(int entries) {
+        return new NBTUnderflowException(entries);
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.VARINT;
+    }
+
+    protected int readUnsignedVarInt() {
+        int value = 0;
+        int index = 0;
+        int b;
+        while (((b = readByte()) & 0x80) != 0) {
+            value |= (b & 0x7F) << index;
+            index += 7;
+            if (index > 35) {
+                throw new NBTException("VarInt is too big");
+            }
+        }
+        return value | (b << index);
+    }
+
+    protected int decodeZigZag32(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    protected long readUnsignedVarLong() {
+        int numRead = 0;
+        long result = 0;
+        byte read;
+        do {
+            read = readByte();
+            long value = (read & 0b01111111);
+            result |= (value << (7 * numRead));
+
+            numRead++;
+            if (numRead > 10) {
+                throw new NBTException("VarLong is too big");
+            }
+        } while ((read & 0b10000000) != 0);
+        return result;
+    }
+
+    protected long decodeZigZag64(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+}
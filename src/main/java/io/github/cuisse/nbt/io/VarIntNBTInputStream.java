@@ -3,6 +3,7 @@ package io.github.cuisse.nbt.io;
 import io.github.cuisse.nbt.NBTException;
 
 import java.io.InputStream;
+import java.util.Arrays;
 
 /**
  * A class for reading NBT data from an input stream in var-int format.
@@ -12,10 +13,16 @@ import java.io.InputStream;
  */
 public class VarIntNBTInputStream extends LittleEndianNBTInputStream {
 
+    private static final int MAX_PREALLOCATED_ENTRIES = 1 << 16;
+
     public VarIntNBTInputStream(InputStream is, boolean compressed) {
         super(is, compressed);
     }
 
+    public VarIntNBTInputStream(InputStream is, NBTCompression compression) {
+        super(is, compression);
+    }
+
     @Override
     public int readInt() {
         return decodeZigZag32(
@@ -46,13 +53,70 @@ public class VarIntNBTInputStream extends LittleEndianNBTInputStream {
 
     @Override
     public String readString() {
-        byte[] bytes = new byte[assertAvailable(
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ), null);
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(
                 readUnsignedVarInt()
-        )];
-        for (int i = 0; i < bytes.length; i++) {
-            bytes[i] = readByte();
+        ), names);
+    }
+
+    @Override
+    public int[] readIntArray() {
+        int length = assertAvailable(readInt());
+        int[] ints = new int[Math.min(length, MAX_PREALLOCATED_ENTRIES)];
+        for (int i = 0; i < length; i++) {
+            if (i == ints.length) {
+                ints = Arrays.copyOf(ints, (int) Math.min(length, i * 2L));
+            }
+            ints[i] = readInt();
+        }
+        return ints;
+    }
+
+    @Override
+    public long[] readLongArray() {
+        int length = assertAvailable(readInt());
+        long[] longs = new long[Math.min(length, MAX_PREALLOCATED_ENTRIES)];
+        for (int i = 0; i < length; i++) {
+            if (i == longs.length) {
+                longs = Arrays.copyOf(longs, (int) Math.min(length, i * 2L));
+            }
+            longs[i] = readLong();
+        }
+        return longs;
+    }
+
+    @Override
+    public void skipString() {
+        skipFully(assertAvailable(readUnsignedVarInt()));
+    }
+
+    @Override
+    public void skipIntArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarInt();
+        }
+    }
+
+    @Override
+    public void skipLongArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarLong();
         }
-        return new String(bytes);
     }
 
     protected int readUnsignedVarInt() {
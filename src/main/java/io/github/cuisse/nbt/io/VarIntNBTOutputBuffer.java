@@ -0,0 +1,111 @@
+package io.github.cuisse.nbt.io;
+
+import java.io.OutputStream;
+
+/**
+ * A class for writing NBT data into a growable byte array in varint format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class VarIntNBTOutputBuffer extends LittleEndianNBTOutputBuffer {
+
+    public VarIntNBTOutputBuffer() {
+        super();
+    }
+
+    public VarIntNBTOutputBuffer(int capacity) {
+        super(capacity);
+    }
+
+    public VarIntNBTOutputBuffer(OutputStream os, boolean compress) {
+        super(os, compress);
+    }
+
+    public VarIntNBTOutputBuffer(OutputStream os, NBTCompression compression) {
+        super(os, compression);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        writeUnsignedVarInt(
+                encodeZigZag32(value)
+        );
+    }
+
+    @Override
+    public void writeLong(long value) {
+        writeUnsignedVarLong(
+                encodeZigZag64(value)
+        );
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        super.writeInt(
+                Float.floatToIntBits(value)
+        );
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        super.writeLong(
+                Double.doubleToLongBits(value)
+        );
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = Utf8.encodedLength(value);
+        writeUnsignedVarInt(length);
+        writeStringBytes(value, length);
+    }
+
+    @Override
+    public void writeIntArray(int[] value) {
+        writeInt(value.length);
+        for (int i : value) {
+            writeInt(i);
+        }
+    }
+
+    @Override
+    public void writeLongArray(long[] value) {
+        writeInt(value.length);
+        for (long i : value) {
+            writeLong(i);
+        }
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.VARINT;
+    }
+
+    protected void writeUnsignedVarInt(int value) {
+        ensure(5);
+        while ((value & 0xFFFFFF80) != 0L) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) (value & 0x7F);
+    }
+
+    protected int encodeZigZag32(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    protected void writeUnsignedVarLong(long value) {
+        ensure(10);
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) (value & 0x7F);
+    }
+
+    protected long encodeZigZag64(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+}
@@ -14,6 +14,10 @@ public class VarIntNBTOutputStream extends LittleEndianNBTOutputStream {
         super(os, compress);
     }
 
+    public VarIntNBTOutputStream(OutputStream os, NBTCompression compression) {
+        super(os, compression);
+    }
+
     @Override
     public void writeInt(int value) {
         writeUnsignedVarInt(
@@ -44,13 +48,32 @@ public class VarIntNBTOutputStream extends LittleEndianNBTOutputStream {
 
     @Override
     public void writeString(String value) {
-        byte[] bytes = value.getBytes();
-        writeUnsignedVarInt(bytes.length);
-        for (byte b : bytes) {
-            writeByte(b);
+        int length = Utf8.encodedLength(value);
+        writeUnsignedVarInt(length);
+        writeStringBytes(value, length);
+    }
+
+    @Override
+    public void writeIntArray(int[] value) {
+        writeInt(value.length);
+        for (int i : value) {
+            writeInt(i);
+        }
+    }
+
+    @Override
+    public void writeLongArray(long[] value) {
+        writeInt(value.length);
+        for (long i : value) {
+            writeLong(i);
         }
     }
 
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.VARINT;
+    }
+
     protected void writeUnsignedVarInt(int value) {
         while ((value & 0xFFFFFF80) != 0L) {
             writeByte((byte) ((value & 0x7F) | 0x80));
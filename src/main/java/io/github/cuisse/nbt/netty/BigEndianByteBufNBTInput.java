@@ -0,0 +1,48 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteOrder;
+
+/**
+ * A class for reading NBT data directly from a Netty {@link ByteBuf} in big-endian format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class BigEndianByteBufNBTInput extends LittleEndianByteBufNBTInput {
+
+    public BigEndianByteBufNBTInput(ByteBuf buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public short readShort() {
+        ensure(Short.BYTES);
+        return buffer.readShort();
+    }
+
+    @Override
+    public int readInt() {
+        ensure(Integer.BYTES);
+        return buffer.readInt();
+    }
+
+    @Override
+    public long readLong() {
+        ensure(Long.BYTES);
+        return buffer.readLong();
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.BIG_ENDIAN;
+    }
+
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteOrder;
+
+/**
+ * A class for writing NBT data directly into a Netty {@link ByteBuf} in big-endian format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class BigEndianByteBufNBTOutput extends LittleEndianByteBufNBTOutput {
+
+    public BigEndianByteBufNBTOutput(ByteBuf buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public void writeShort(short value) {
+        buffer.writeShort(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.writeInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        buffer.writeLong(value);
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.BIG_ENDIAN;
+    }
+
+    @Override
+    protected ByteOrder order() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+}
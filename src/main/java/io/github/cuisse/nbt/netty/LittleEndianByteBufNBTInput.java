@@ -0,0 +1,230 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.io.NBTInput;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.NameTable;
+import io.github.cuisse.nbt.io.StringCache;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A class for reading NBT data directly from a Netty {@link ByteBuf} in little-endian format.
+ * <p>
+ * Values are read from the readable bytes of the buffer, advancing its reader index, without
+ * copying them into an array first. The buffer is neither retained nor released by this input.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LittleEndianByteBufNBTInput implements NBTInput {
+
+    protected final ByteBuf buffer;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Creates a new input that reads the readable bytes of the specified buffer.
+     *
+     * @param buffer the buffer to read from.
+     * @throws NullPointerException if the buffer is null.
+     */
+    public LittleEndianByteBufNBTInput(ByteBuf buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer == null");
+        } else {
+            this.buffer = buffer;
+        }
+    }
+
+    @Override
+    public int remaining() {
+        return buffer.readableBytes();
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, buffer.readableBytes()));
+        buffer.skipBytes(skipped);
+        return skipped;
+    }
+
+    @Override
+    public byte readByte() {
+        ensure(Byte.BYTES);
+        return buffer.readByte();
+    }
+
+    @Override
+    public short readShort() {
+        ensure(Short.BYTES);
+        return buffer.readShortLE();
+    }
+
+    @Override
+    public int readInt() {
+        ensure(Integer.BYTES);
+        return buffer.readIntLE();
+    }
+
+    @Override
+    public long readLong() {
+        ensure(Long.BYTES);
+        return buffer.readLongLE();
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(
+                readInt()
+        );
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(
+                readLong()
+        );
+    }
+
+    @Override
+    public byte[] readByteArray() {
+        byte[] bytes = new byte[assertAvailable(readInt())];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    @Override
+    public String readString() {
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())));
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(Short.toUnsignedInt(readShort())), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(Short.toUnsignedInt(readShort())), names);
+    }
+
+    @Override
+    public int[] readIntArray() {
+        int[] ints = new int[assertAvailable(readInt(), Integer.BYTES)];
+        buffer.nioBuffer(buffer.readerIndex(), ints.length * Integer.BYTES).order(order()).asIntBuffer().get(ints);
+        buffer.skipBytes(ints.length * Integer.BYTES);
+        return ints;
+    }
+
+    @Override
+    public long[] readLongArray() {
+        long[] longs = new long[assertAvailable(readInt(), Long.BYTES)];
+        buffer.nioBuffer(buffer.readerIndex(), longs.length * Long.BYTES).order(order()).asLongBuffer().get(longs);
+        buffer.skipBytes(longs.length * Long.BYTES);
+        return longs;
+    }
+
+    @Override
+    public void skipString() {
+        buffer.skipBytes(assertAvailable(Short.toUnsignedInt(readShort())));
+    }
+
+    @Override
+    public void skipByteArray() {
+        buffer.skipBytes(assertAvailable(readInt()));
+    }
+
+    @Override
+    public void skipIntArray() {
+        buffer.skipBytes(assertAvailable(readInt(), Integer.BYTES) * Integer.BYTES);
+    }
+
+    @Override
+    public void skipLongArray() {
+        buffer.skipBytes(assertAvailable(readInt(), Long.BYTES) * Long.BYTES);
+    }
+
+    @Override
+    public void close() {
+        // The caller owns the buffer and is responsible for releasing it.
+    }
+
+    /**
+     * Returns the format of this input.
+     *
+     * @return the format of this input.
+     */
+    protected NBTStream stream() {
+        return NBTStream.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the byte order used by the fixed-width values of this input.
+     *
+     * @return the byte order of this input.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    protected String readString(int length) {
+        String value = buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8);
+        buffer.skipBytes(length);
+        return value;
+    }
+
+    protected String readString(int length, StringCache cache) {
+        String value;
+        if (buffer.hasArray()) {
+            value = cache.decode(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), length);
+        } else {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.getBytes(buffer.readerIndex(), scratch, 0, length);
+            value = cache.decode(scratch, 0, length);
+        }
+        buffer.skipBytes(length);
+        return value;
+    }
+
+    protected int readName(int length, NameTable names) {
+        int index;
+        if (buffer.hasArray()) {
+            index = names.indexOf(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), length);
+        } else {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.getBytes(buffer.readerIndex(), scratch, 0, length);
+            index = names.indexOf(scratch, 0, length);
+        }
+        buffer.skipBytes(length);
+        return index;
+    }
+
+    protected void ensure(long length) {
+        if (length > buffer.readableBytes()) {
+            throw new NBTException("Not enough data available, expected " + length + " bytes but only " + remaining() + " bytes available.");
+        }
+    }
+
+    protected int assertAvailable(int length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Length must be positive, got " + length + ".");
+        }
+        ensure(length);
+        return length;
+    }
+
+    protected int assertAvailable(int length, int width) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Length must be positive, got " + length + ".");
+        }
+        ensure((long) length * width);
+        return length;
+    }
+
+}
@@ -0,0 +1,202 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.io.NBTOutput;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A class for writing NBT data directly into a Netty {@link ByteBuf} in little-endian format.
+ * <p>
+ * Values are written at the writer index of the buffer, which grows as needed, so a pooled
+ * direct buffer can be sent without copying the encoded bytes. The buffer is neither retained
+ * nor released by this output.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LittleEndianByteBufNBTOutput implements NBTOutput {
+
+    static final int MAX_STRING_LENGTH = 0xFFFF;
+
+    protected final ByteBuf buffer;
+
+    /**
+     * Creates a new output that writes into the specified buffer.
+     *
+     * @param buffer the buffer to write into.
+     * @throws NullPointerException if the buffer is null.
+     */
+    public LittleEndianByteBufNBTOutput(ByteBuf buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer == null");
+        } else {
+            this.buffer = buffer;
+        }
+    }
+
+    @Override
+    public void writeByte(byte value) {
+        buffer.writeByte(value);
+    }
+
+    @Override
+    public void writeShort(short value) {
+        buffer.writeShortLE(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        buffer.writeIntLE(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        buffer.writeLongLE(value);
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+
+    @Override
+    public void writeByteArray(byte[] value) {
+        writeInt(value.length);
+        buffer.writeBytes(value);
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = ByteBufUtil.utf8Bytes(value);
+        if (length > MAX_STRING_LENGTH) {
+            throw new NBTException("String too long, " + length + " bytes.");
+        }
+        writeShort((short) length);
+        writeStringBytes(value, length);
+    }
+
+    @Override
+    public void writeIntArray(int[] value) {
+        writeInt(value.length);
+        int length = value.length * Integer.BYTES;
+        buffer.ensureWritable(length);
+        if (buffer.nioBufferCount() == 1) {
+            buffer.nioBuffer(buffer.writerIndex(), length).order(order()).asIntBuffer().put(value);
+            buffer.writerIndex(buffer.writerIndex() + length);
+        } else {
+            for (int i : value) {
+                writeInt(i);
+            }
+        }
+    }
+
+    @Override
+    public void writeLongArray(long[] value) {
+        writeInt(value.length);
+        int length = value.length * Long.BYTES;
+        buffer.ensureWritable(length);
+        if (buffer.nioBufferCount() == 1) {
+            buffer.nioBuffer(buffer.writerIndex(), length).order(order()).asLongBuffer().put(value);
+            buffer.writerIndex(buffer.writerIndex() + length);
+        } else {
+            for (long i : value) {
+                writeLong(i);
+            }
+        }
+    }
+
+    @Override
+    public void writeShorts(short[] values) {
+        int length = values.length * Short.BYTES;
+        buffer.ensureWritable(length);
+        if (buffer.nioBufferCount() == 1) {
+            buffer.nioBuffer(buffer.writerIndex(), length).order(order()).asShortBuffer().put(values);
+            buffer.writerIndex(buffer.writerIndex() + length);
+        } else {
+            for (short value : values) {
+                writeShort(value);
+            }
+        }
+    }
+
+    @Override
+    public void writeFloats(float[] values) {
+        int length = values.length * Float.BYTES;
+        buffer.ensureWritable(length);
+        if (buffer.nioBufferCount() == 1) {
+            buffer.nioBuffer(buffer.writerIndex(), length).order(order()).asFloatBuffer().put(values);
+            buffer.writerIndex(buffer.writerIndex() + length);
+        } else {
+            for (float value : values) {
+                writeFloat(value);
+            }
+        }
+    }
+
+    @Override
+    public void writeDoubles(double[] values) {
+        int length = values.length * Double.BYTES;
+        buffer.ensureWritable(length);
+        if (buffer.nioBufferCount() == 1) {
+            buffer.nioBuffer(buffer.writerIndex(), length).order(order()).asDoubleBuffer().put(values);
+            buffer.writerIndex(buffer.writerIndex() + length);
+        } else {
+            for (double value : values) {
+                writeDouble(value);
+            }
+        }
+    }
+
+    @Override
+    public boolean writeEncoded(NBTStream stream, ByteBuffer encoded) {
+        if (stream != stream()) {
+            return false;
+        }
+        buffer.writeBytes(encoded.duplicate());
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // The caller owns the buffer and is responsible for releasing it.
+    }
+
+    /**
+     * Returns the format of this output.
+     *
+     * @return the format of this output.
+     */
+    protected NBTStream stream() {
+        return NBTStream.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Returns the byte order used by the fixed-width values of this output.
+     *
+     * @return the byte order of this output.
+     */
+    protected ByteOrder order() {
+        return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    /**
+     * Encodes the specified string straight into the buffer.
+     *
+     * @param value the string to encode.
+     * @param length the encoded length of the string.
+     */
+    protected void writeStringBytes(String value, int length) {
+        ByteBufUtil.reserveAndWriteUtf8(buffer, value, length);
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.io.NBTReader;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageDecoder;
+
+import java.util.List;
+
+/**
+ * A decoder that reads each inbound {@link ByteBuf} as a single root tag and passes it on as a {@link NamedTag}.
+ * <p>
+ * The buffers must already be framed, for instance by a length field decoder. The tags are
+ * decoded straight from the buffer, which is released once decoded.
+ * <p>
+ * When the root tag is not named, as in the network format used since Minecraft 1.20.2, the
+ * type of the root tag is directly followed by its payload and the decoded tag has an empty name.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class NBTDecoder extends MessageToMessageDecoder<ByteBuf> {
+
+    private final NBTStream type;
+    private final NBTReader reader;
+    private final boolean named;
+
+    /**
+     * Creates a new decoder of named root tags with the default reader.
+     *
+     * @param type the NBT stream type.
+     */
+    public NBTDecoder(NBTStream type) {
+        this(type, NBT.reader(), true);
+    }
+
+    /**
+     * Creates a new decoder.
+     *
+     * @param type the NBT stream type.
+     * @param reader the reader decoding the tags.
+     * @param named whether the root tags are named.
+     * @throws NullPointerException if the type or the reader is null.
+     */
+    public NBTDecoder(NBTStream type, NBTReader reader, boolean named) {
+        if (type == null) {
+            throw new NullPointerException("type == null");
+        }
+        if (reader == null) {
+            throw new NullPointerException("reader == null");
+        }
+        this.type   = type;
+        this.reader = reader;
+        this.named  = named;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext context, ByteBuf buffer, List<Object> out) {
+        var input = NettyNBT.input(type, buffer);
+        if (named) {
+            out.add(reader.read(input));
+        } else {
+            out.add(new NamedTag("", reader.readTag(input, Tag.MAX_DEPTH)));
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.NBTWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+/**
+ * An encoder that writes each outbound {@link NamedTag} as a root tag.
+ * <p>
+ * The tags are encoded straight into a buffer of the channel's allocator, a pooled direct
+ * buffer by default, so the encoded bytes are never copied. When the root tag is not named,
+ * as in the network format used since Minecraft 1.20.2, the name of the tag is not written.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class NBTEncoder extends MessageToByteEncoder<NamedTag> {
+
+    private final NBTStream type;
+    private final NBTWriter writer;
+    private final boolean named;
+
+    /**
+     * Creates a new encoder of named root tags with the default writer.
+     *
+     * @param type the NBT stream type.
+     */
+    public NBTEncoder(NBTStream type) {
+        this(type, NBT.writer(), true);
+    }
+
+    /**
+     * Creates a new encoder.
+     *
+     * @param type the NBT stream type.
+     * @param writer the writer encoding the tags.
+     * @param named whether the root tags are named.
+     * @throws NullPointerException if the type or the writer is null.
+     */
+    public NBTEncoder(NBTStream type, NBTWriter writer, boolean named) {
+        super(NamedTag.class);
+        if (type == null) {
+            throw new NullPointerException("type == null");
+        }
+        if (writer == null) {
+            throw new NullPointerException("writer == null");
+        }
+        this.type   = type;
+        this.writer = writer;
+        this.named  = named;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext context, NamedTag tag, ByteBuf buffer) {
+        var output = NettyNBT.output(type, buffer);
+        if (named) {
+            writer.write(output, tag);
+        } else {
+            writer.write(output, tag.tag());
+        }
+    }
+
+}
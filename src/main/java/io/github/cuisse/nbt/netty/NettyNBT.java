@@ -0,0 +1,53 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.io.NBTInput;
+import io.github.cuisse.nbt.io.NBTOutput;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Factory methods for reading and writing NBT data directly from and into Netty {@link ByteBuf}s.
+ * <p>
+ * Netty is an optional dependency of this library, these classes can only be used when it is
+ * present on the class path.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public final class NettyNBT {
+
+    /**
+     * Creates a new NBT reader over the readable bytes of the specified buffer.
+     *
+     * @param type the NBT stream type.
+     * @param buffer the buffer to read from, whose reader index is advanced.
+     * @return a new NBT reader.
+     */
+    public static NBTInput input(NBTStream type, ByteBuf buffer) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianByteBufNBTInput(buffer);
+            case BIG_ENDIAN    -> new BigEndianByteBufNBTInput(buffer);
+            case VARINT        -> new VarIntByteBufNBTInput(buffer);
+        };
+    }
+
+    /**
+     * Creates a new NBT writer into the specified buffer.
+     *
+     * @param type the NBT stream type.
+     * @param buffer the buffer to write into, whose writer index is advanced.
+     * @return a new NBT writer.
+     */
+    public static NBTOutput output(NBTStream type, ByteBuf buffer) {
+        return switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianByteBufNBTOutput(buffer);
+            case BIG_ENDIAN    -> new BigEndianByteBufNBTOutput(buffer);
+            case VARINT        -> new VarIntByteBufNBTOutput(buffer);
+        };
+    }
+
+    private NettyNBT() {
+        // nope
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.NameTable;
+import io.github.cuisse.nbt.io.StringCache;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * A class for reading NBT data directly from a Netty {@link ByteBuf} in var-int format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class VarIntByteBufNBTInput extends LittleEndianByteBufNBTInput {
+
+    public VarIntByteBufNBTInput(ByteBuf buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public int readInt() {
+        return decodeZigZag32(
+                readUnsignedVarInt()
+        );
+    }
+
+    @Override
+    public long readLong() {
+        return decodeZigZag64(
+                readUnsignedVarLong()
+        );
+    }
+
+    @Override
+    public float readFloat() {
+        return Float.intBitsToFloat(
+                super.readInt()
+        );
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(
+                super.readLong()
+        );
+    }
+
+    @Override
+    public String readString() {
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ));
+    }
+
+    @Override
+    public String readString(StringCache cache) {
+        return readString(assertAvailable(
+                readUnsignedVarInt()
+        ), cache);
+    }
+
+    @Override
+    public int readName(NameTable names) {
+        return readName(assertAvailable(
+                readUnsignedVarInt()
+        ), names);
+    }
+
+    @Override
+    public int[] readIntArray() {
+        int[] ints = new int[assertAvailable(readInt())];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = readInt();
+        }
+        return ints;
+    }
+
+    @Override
+    public long[] readLongArray() {
+        long[] longs = new long[assertAvailable(readInt())];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = readLong();
+        }
+        return longs;
+    }
+
+    @Override
+    public void skipString() {
+        buffer.skipBytes(assertAvailable(readUnsignedVarInt()));
+    }
+
+    @Override
+    public void skipIntArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarInt();
+        }
+    }
+
+    @Override
+    public void skipLongArray() {
+        int length = assertAvailable(readInt());
+        for (int i = 0; i < length; i++) {
+            readUnsignedVarLong();
+        }
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.VARINT;
+    }
+
+    protected int readUnsignedVarInt() {
+        int value = 0;
+        int index = 0;
+        int b;
+        while (((b = readByte()) & 0x80) != 0) {
+            value |= (b & 0x7F) << index;
+            index += 7;
+            if (index > 35) {
+                throw new NBTException("VarInt is too big");
+            }
+        }
+        return value | (b << index);
+    }
+
+    protected int decodeZigZag32(int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    protected long readUnsignedVarLong() {
+        int numRead = 0;
+        long result = 0;
+        byte read;
+        do {
+            read = readByte();
+            long value = (read & 0b01111111);
+            result |= (value << (7 * numRead));
+
+            numRead++;
+            if (numRead > 10) {
+                throw new NBTException("VarLong is too big");
+            }
+        } while ((read & 0b10000000) != 0);
+        return result;
+    }
+
+    protected long decodeZigZag64(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+}
@@ -0,0 +1,99 @@
+package io.github.cuisse.nbt.netty;
+
+import io.github.cuisse.nbt.io.NBTStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * A class for writing NBT data directly into a Netty {@link ByteBuf} in varint format.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class VarIntByteBufNBTOutput extends LittleEndianByteBufNBTOutput {
+
+    public VarIntByteBufNBTOutput(ByteBuf buffer) {
+        super(buffer);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        writeUnsignedVarInt(
+                encodeZigZag32(value)
+        );
+    }
+
+    @Override
+    public void writeLong(long value) {
+        writeUnsignedVarLong(
+                encodeZigZag64(value)
+        );
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        super.writeInt(
+                Float.floatToIntBits(value)
+        );
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        super.writeLong(
+                Double.doubleToLongBits(value)
+        );
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = ByteBufUtil.utf8Bytes(value);
+        writeUnsignedVarInt(length);
+        writeStringBytes(value, length);
+    }
+
+    @Override
+    public void writeIntArray(int[] value) {
+        writeInt(value.length);
+        for (int i : value) {
+            writeInt(i);
+        }
+    }
+
+    @Override
+    public void writeLongArray(long[] value) {
+        writeInt(value.length);
+        for (long i : value) {
+            writeLong(i);
+        }
+    }
+
+    @Override
+    protected NBTStream stream() {
+        return NBTStream.VARINT;
+    }
+
+    protected void writeUnsignedVarInt(int value) {
+        while ((value & 0xFFFFFF80) != 0L) {
+            buffer.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer.writeByte(value & 0x7F);
+    }
+
+    protected int encodeZigZag32(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    protected void writeUnsignedVarLong(long value) {
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+            buffer.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.writeByte((int) (value & 0x7F));
+    }
+
+    protected long encodeZigZag64(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+}
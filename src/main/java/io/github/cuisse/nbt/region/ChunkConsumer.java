@@ -0,0 +1,25 @@
+package io.github.cuisse.nbt.region;
+
+import io.github.cuisse.nbt.io.NBTInput;
+
+/**
+ * An interface for accumulating the chunks visited by a {@link WorldScanner}.
+ *
+ * @param <A> the type of the accumulated result.
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+@FunctionalInterface
+public interface ChunkConsumer<A> {
+
+    /**
+     * Accumulates the specified chunk into the specified result.
+     *
+     * @param result the result owned by the current task.
+     * @param x the absolute x coordinate of the chunk.
+     * @param z the absolute z coordinate of the chunk.
+     * @param input the input over the decompressed chunk data.
+     */
+    void accept(A result, int x, int z, NBTInput input);
+
+}
@@ -0,0 +1,59 @@
+package io.github.cuisse.nbt.region;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.io.NBTCompression;
+
+/**
+ * An enumeration for the compressions a chunk can be stored with in a region file.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public enum RegionCompression {
+    GZIP(1, NBTCompression.GZIP),
+    ZLIB(2, NBTCompression.ZLIB),
+    NONE(3, NBTCompression.NONE);
+
+    private final int id;
+    private final NBTCompression compression;
+
+    RegionCompression(int id, NBTCompression compression) {
+        this.id = id;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the id stored in the chunk header.
+     *
+     * @return the id of this compression.
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Returns the compression applied to the chunk data.
+     *
+     * @return the compression of the chunk data.
+     */
+    public NBTCompression compression() {
+        return compression;
+    }
+
+    /**
+     * Returns the compression with the specified id.
+     *
+     * @param id the id stored in the chunk header.
+     * @return the compression with the specified id.
+     * @throws NBTException if the compression is unknown or not supported.
+     */
+    public static RegionCompression fromId(int id) {
+        return switch (id) {
+            case 1  -> GZIP;
+            case 2  -> ZLIB;
+            case 3  -> NONE;
+            default -> throw new NBTException("Unsupported chunk compression: " + id);
+        };
+    }
+
+}
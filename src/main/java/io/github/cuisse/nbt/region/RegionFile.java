@@ -0,0 +1,418 @@
+package io.github.cuisse.nbt.region;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.io.BigEndianNBTOutputBuffer;
+import io.github.cuisse.nbt.io.NBTInput;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * A memory-mapped Anvil region file ({@code .mca}) holding up to 32x32 chunks.
+ * <p>
+ * The file starts with a 4 KiB table of chunk locations followed by a 4 KiB table of
+ * modification timestamps. Each chunk is stored in whole 4 KiB sectors, prefixed by its
+ * length and compression. Chunks are read from the mapped file: their stored bytes are copied
+ * under the lock of this region file, so that a concurrent write cannot reuse their sectors
+ * while they are read, and decompressed and decoded outside of it.
+ * <p>
+ * A chunk is always written to free sectors before its header entry is updated, and the
+ * sectors it replaces are only reused after the header has been flushed, so an interrupted
+ * write leaves either the previous or the new chunk in place. Sectors freed this way are
+ * reclaimed by {@link #compact()}.
+ * <p>
+ * Chunk coordinates may be given either relative to the region or as absolute chunk
+ * coordinates, only their 5 lowest bits are used.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class RegionFile implements AutoCloseable {
+
+    /**
+     * The size in bytes of a sector.
+     */
+    public static final int SECTOR_SIZE = 4096;
+
+    /**
+     * The number of chunks along each axis of a region.
+     */
+    public static final int REGION_SIZE = 32;
+
+    private static final int CHUNKS         = REGION_SIZE * REGION_SIZE;
+    private static final int HEADER_SECTORS = 2;
+    private static final int HEADER_SIZE    = HEADER_SECTORS * SECTOR_SIZE;
+    private static final int CHUNK_HEADER   = 5;
+    private static final int MAX_SECTORS    = 0xFF;
+    private static final int MAX_OFFSET     = 0xFFFFFF;
+    private static final int EXTERNAL       = 0x80;
+
+    private final Path path;
+    private final boolean writable;
+    private final BitSet used    = new BitSet();
+    private final BitSet pending = new BitSet();
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer data;
+
+    /**
+     * Opens the specified region file for reading and writing, creating it if it does not exist.
+     *
+     * @param path the path of the region file.
+     * @throws NBTException if the file cannot be opened.
+     */
+    public RegionFile(Path path) {
+        this(path, true);
+    }
+
+    /**
+     * Opens the specified region file.
+     *
+     * @param path the path of the region file.
+     * @param writable whether chunks can be written, if so the file is created when it does not exist.
+     * @throws NBTException if the file cannot be opened or its header is missing.
+     */
+    public RegionFile(Path path, boolean writable) {
+        if (path == null) {
+            throw new NullPointerException("path == null");
+        }
+        this.path     = path;
+        this.writable = writable;
+        try {
+            open();
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Returns the path of this region file.
+     *
+     * @return the path of this region file.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns whether the specified chunk is present.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @return true if the chunk is present.
+     */
+    public synchronized boolean hasChunk(int x, int z) {
+        return header.getInt(index(x, z) * Integer.BYTES) != 0;
+    }
+
+    /**
+     * Returns the last modification time of the specified chunk.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @return the modification time in seconds since the epoch, or 0 if the chunk is absent.
+     */
+    public synchronized int timestamp(int x, int z) {
+        return header.getInt(SECTOR_SIZE + index(x, z) * Integer.BYTES);
+    }
+
+    /**
+     * Reads the specified chunk.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @return the chunk, or null if the chunk is absent.
+     * @throws NBTException if the chunk is corrupt.
+     */
+    public NamedTag read(int x, int z) {
+        var input = input(x, z);
+        return input != null ? NBT.reader().read(input) : null;
+    }
+
+    /**
+     * Returns an input over the decompressed data of the specified chunk,
+     * so that it can be read with any {@link io.github.cuisse.nbt.io.NBTReader}.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @return the input of the chunk, or null if the chunk is absent.
+     * @throws NBTException if the chunk is corrupt.
+     */
+    public NBTInput input(int x, int z) {
+        ByteBuffer chunk;
+        synchronized (this) {
+            var stored = chunk(index(x, z));
+            if (stored == null) {
+                return null;
+            }
+            chunk = ByteBuffer.allocate(stored.remaining()).put(stored).flip();
+        }
+        int type = chunk.get(Integer.BYTES) & 0xFF;
+        if ((type & EXTERNAL) != 0) {
+            throw new NBTException("External chunk data is not supported, chunk " + x + ", " + z + ".");
+        }
+        var compression = RegionCompression.fromId(type);
+        return NBT.input(NBTStream.BIG_ENDIAN, chunk.position(CHUNK_HEADER), compression.compression());
+    }
+
+    /**
+     * Writes the specified chunk with zlib compression.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @param tag the chunk to write.
+     * @throws NBTException if the chunk cannot be written.
+     */
+    public void write(int x, int z, NamedTag tag) {
+        write(x, z, tag, RegionCompression.ZLIB);
+    }
+
+    /**
+     * Writes the specified chunk.
+     * <p>
+     * The chunk is encoded outside of the lock of this region file, only the sector
+     * allocation and the write itself are exclusive.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     * @param tag the chunk to write.
+     * @param compression the compression of the chunk.
+     * @throws NBTException if the chunk cannot be written or is larger than 255 sectors.
+     */
+    public void write(int x, int z, NamedTag tag, RegionCompression compression) {
+        checkWritable();
+        var bytes = new ByteArrayOutputStream(SECTOR_SIZE);
+        bytes.write(new byte[CHUNK_HEADER], 0, CHUNK_HEADER);
+        try (var output = new BigEndianNBTOutputBuffer(bytes, compression.compression())) {
+            NBT.writer().write(output, tag);
+        }
+        var chunk = ByteBuffer.wrap(bytes.toByteArray());
+        chunk.putInt(0, chunk.remaining() - Integer.BYTES).put(Integer.BYTES, (byte) compression.id());
+        int sectors = (chunk.remaining() + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        if (sectors > MAX_SECTORS) {
+            throw new NBTException("Chunk " + x + ", " + z + " is too large, " + sectors + " sectors.");
+        }
+        synchronized (this) {
+            int offset = allocate(sectors);
+            try {
+                long start = (long) offset * SECTOR_SIZE;
+                writeFully(channel, chunk, start);
+                long end = start + (long) sectors * SECTOR_SIZE;
+                if (channel.size() < end) {
+                    writeFully(channel, ByteBuffer.allocate((int) (end - channel.size())), channel.size());
+                }
+                channel.force(false);
+                if (end > data.capacity()) {
+                    remap();
+                }
+                update(index(x, z), offset << 8 | sectors, (int) (System.currentTimeMillis() / 1000));
+            } catch (IOException | RuntimeException exception) {
+                used.clear(offset, offset + sectors); // the header does not point to them
+                throw exception instanceof NBTException nbt ? nbt : new NBTException(exception);
+            }
+        }
+    }
+
+    /**
+     * Removes the specified chunk.
+     *
+     * @param x the x coordinate of the chunk.
+     * @param z the z coordinate of the chunk.
+     */
+    public synchronized void delete(int x, int z) {
+        checkWritable();
+        update(index(x, z), 0, 0);
+    }
+
+    /**
+     * Rewrites this region file without unused sectors.
+     * <p>
+     * The chunks are copied into a temporary file next to this one, which then atomically
+     * replaces it, so the original file is left untouched if the compaction fails.
+     *
+     * @throws NBTException if the file cannot be compacted.
+     */
+    public synchronized void compact() {
+        checkWritable();
+        var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (var output = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                var table = ByteBuffer.allocate(HEADER_SIZE);
+                int next = HEADER_SECTORS;
+                for (int index = 0; index < CHUNKS; index++) {
+                    var chunk = chunk(index);
+                    if (chunk == null) {
+                        continue;
+                    }
+                    int sectors = (chunk.remaining() + SECTOR_SIZE - 1) / SECTOR_SIZE;
+                    writeFully(output, chunk, (long) next * SECTOR_SIZE);
+                    table.putInt(index * Integer.BYTES, next << 8 | sectors);
+                    table.putInt(SECTOR_SIZE + index * Integer.BYTES, header.getInt(SECTOR_SIZE + index * Integer.BYTES));
+                    next += sectors;
+                }
+                long size = (long) next * SECTOR_SIZE;
+                if (output.size() < size) {
+                    writeFully(output, ByteBuffer.allocate((int) (size - output.size())), output.size());
+                }
+                writeFully(output, table, 0);
+                output.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException exception) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                exception.addSuppressed(suppressed);
+            }
+            throw exception instanceof NBTException nbt ? nbt : new NBTException(exception);
+        }
+        try {
+            channel.close();
+            open();
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+    }
+
+    /**
+     * Flushes the header to the storage device, so that the sectors of replaced
+     * and deleted chunks can be reused.
+     *
+     * @throws NBTException if the header cannot be flushed.
+     */
+    public synchronized void flush() {
+        if (writable) {
+            header.force();
+            used.andNot(pending);
+            pending.clear();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (channel.isOpen()) {
+            try {
+                flush();
+            } finally {
+                try {
+                    channel.close();
+                } catch (IOException exception) {
+                    throw new NBTException(exception);
+                }
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        if (writable) {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+            if (channel.size() < HEADER_SIZE) {
+                writeFully(channel, ByteBuffer.allocate(HEADER_SIZE - (int) channel.size()), channel.size());
+            }
+        } else {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            if (channel.size() < HEADER_SIZE) {
+                channel.close();
+                throw new NBTException("Invalid region file " + path + ", missing header.");
+            }
+        }
+        header = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        remap();
+        used.clear();
+        pending.clear();
+        used.set(0, HEADER_SECTORS);
+        for (int index = 0; index < CHUNKS; index++) {
+            int location = header.getInt(index * Integer.BYTES);
+            int offset = location >>> 8;
+            int sectors = location & MAX_SECTORS;
+            if (location != 0 && offset >= HEADER_SECTORS && (long) (offset + sectors) * SECTOR_SIZE <= data.capacity()) {
+                used.set(offset, offset + sectors);
+            }
+        }
+    }
+
+    private void remap() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new NBTException("Region file " + path + " is too large, " + size + " bytes.");
+        }
+        data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Returns the stored bytes of the chunk at the specified index, including its length and
+     * compression, or null if the chunk is absent. The returned buffer must not be modified.
+     */
+    private ByteBuffer chunk(int index) {
+        int location = header.getInt(index * Integer.BYTES);
+        if (location == 0) {
+            return null;
+        }
+        int offset = location >>> 8;
+        int sectors = location & MAX_SECTORS;
+        long start = (long) offset * SECTOR_SIZE;
+        if (offset < HEADER_SECTORS || start + CHUNK_HEADER > data.capacity()) {
+            throw new NBTException("Invalid location of chunk " + index + ", sector " + offset + ".");
+        }
+        int length = data.getInt((int) start);
+        if (length <= 0 || length + Integer.BYTES > sectors * SECTOR_SIZE || start + Integer.BYTES + length > data.capacity()) {
+            throw new NBTException("Invalid length of chunk " + index + ", " + length + " bytes.");
+        }
+        return data.slice((int) start, Integer.BYTES + length);
+    }
+
+    private int allocate(int sectors) {
+        int start = used.nextClearBit(HEADER_SECTORS);
+        while (true) {
+            int end = used.nextSetBit(start);
+            if (end == -1 || end - start >= sectors) {
+                break;
+            }
+            start = used.nextClearBit(end);
+        }
+        if (start + sectors > MAX_OFFSET) {
+            throw new NBTException("Region file " + path + " is full.");
+        }
+        used.set(start, start + sectors);
+        return start;
+    }
+
+    private void update(int index, int location, int timestamp) {
+        int previous = header.getInt(index * Integer.BYTES);
+        header.putInt(index * Integer.BYTES, location);
+        header.putInt(SECTOR_SIZE + index * Integer.BYTES, timestamp);
+        if (previous != 0) {
+            int offset = previous >>> 8;
+            pending.set(offset, offset + (previous & MAX_SECTORS));
+            pending.clear(0, HEADER_SECTORS);
+        }
+    }
+
+    private void checkWritable() {
+        if (!writable) {
+            throw new NBTException("Region file " + path + " is opened read-only.");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static int index(int x, int z) {
+        return (x & (REGION_SIZE - 1)) | (z & (REGION_SIZE - 1)) << 5;
+    }
+
+}
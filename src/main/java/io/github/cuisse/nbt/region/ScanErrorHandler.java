@@ -0,0 +1,41 @@
+package io.github.cuisse.nbt.region;
+
+import io.github.cuisse.nbt.NBTException;
+
+import java.nio.file.Path;
+
+/**
+ * An interface for handling the chunks and region files a {@link WorldScanner} cannot read.
+ * <p>
+ * The scan goes on with the next chunk once the handler returns, a handler that throws
+ * aborts the whole scan instead. Handlers are called from the tasks of the scan, concurrently.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+@FunctionalInterface
+public interface ScanErrorHandler {
+
+    /**
+     * The coordinate reported when a whole region file cannot be read.
+     */
+    int WHOLE_REGION = Integer.MIN_VALUE;
+
+    /**
+     * A handler that rethrows the exception, aborting the scan.
+     */
+    ScanErrorHandler THROW = (region, x, z, exception) -> {
+        throw exception;
+    };
+
+    /**
+     * Handles a chunk or a region file that cannot be read.
+     *
+     * @param region the region file.
+     * @param x the absolute x coordinate of the chunk, or {@link #WHOLE_REGION}.
+     * @param z the absolute z coordinate of the chunk, or {@link #WHOLE_REGION}.
+     * @param exception the cause of the failure.
+     */
+    void failed(Path region, int x, int z, NBTException exception);
+
+}
@@ -0,0 +1,248 @@
+package io.github.cuisse.nbt.region;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.io.NBTReader;
+import io.github.cuisse.nbt.io.NBTVisitor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * A class for scanning every chunk of a directory of region files in parallel.
+ * <p>
+ * Region files are split across the tasks of a {@link ForkJoinPool}, and the chunks of each
+ * region are split again in batches of rows. Each task accumulates its chunks into its own
+ * result, created by the supplier, so accumulators need no synchronization; the results of
+ * the tasks are then merged pairwise with the combiner.
+ * <p>
+ * Chunks and region files that cannot be read are reported to a {@link ScanErrorHandler},
+ * which can skip them so that a corrupt chunk does not abort the scan of a whole world.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class WorldScanner {
+
+    private static final Pattern REGION_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int ROWS_PER_TASK = 4;
+
+    private final ForkJoinPool pool;
+    private final NBTReader reader;
+    private final ScanErrorHandler handler;
+
+    /**
+     * Creates a new scanner running on the common pool with the default reader,
+     * which aborts the scan on the first chunk it cannot read.
+     */
+    public WorldScanner() {
+        this(ForkJoinPool.commonPool(), NBT.reader());
+    }
+
+    /**
+     * Creates a new scanner which aborts the scan on the first chunk it cannot read.
+     *
+     * @param pool the pool running the scan.
+     * @param reader the reader decoding the chunks for {@link #visit}.
+     * @throws NullPointerException if the pool or the reader is null.
+     */
+    public WorldScanner(ForkJoinPool pool, NBTReader reader) {
+        this(pool, reader, ScanErrorHandler.THROW);
+    }
+
+    /**
+     * Creates a new scanner.
+     *
+     * @param pool the pool running the scan.
+     * @param reader the reader decoding the chunks for {@link #visit}.
+     * @param handler the handler of the chunks and region files that cannot be read.
+     * @throws NullPointerException if the pool, the reader or the handler is null.
+     */
+    public WorldScanner(ForkJoinPool pool, NBTReader reader, ScanErrorHandler handler) {
+        if (pool == null) {
+            throw new NullPointerException("pool == null");
+        }
+        if (reader == null) {
+            throw new NullPointerException("reader == null");
+        }
+        if (handler == null) {
+            throw new NullPointerException("handler == null");
+        }
+        this.pool    = pool;
+        this.reader  = reader;
+        this.handler = handler;
+    }
+
+    /**
+     * Scans every chunk of the region files ({@code r.<x>.<z>.mca}) in the specified directory.
+     *
+     * @param directory the directory holding the region files.
+     * @param supplier creates the result of each task.
+     * @param consumer accumulates a chunk into the result of the current task.
+     * @param combiner merges the results of two tasks.
+     * @param <A> the type of the result.
+     * @return the merged result.
+     * @throws NBTException if the directory cannot be listed, or if a chunk cannot be read and the handler rethrows.
+     */
+    public <A> A scan(Path directory, Supplier<A> supplier, ChunkConsumer<A> consumer, BinaryOperator<A> combiner) {
+        List<Path> regions;
+        try (var files = Files.list(directory)) {
+            regions = files.filter(file -> REGION_NAME.matcher(file.getFileName().toString()).matches()).sorted().toList();
+        } catch (IOException exception) {
+            throw new NBTException(exception);
+        }
+        return scan(regions, supplier, consumer, combiner);
+    }
+
+    /**
+     * Scans every chunk of the specified region files.
+     *
+     * @param regions the region files, named {@code r.<x>.<z>.mca}.
+     * @param supplier creates the result of each task.
+     * @param consumer accumulates a chunk into the result of the current task.
+     * @param combiner merges the results of two tasks.
+     * @param <A> the type of the result.
+     * @return the merged result.
+     * @throws NBTException if a region file is misnamed or a chunk cannot be read, and the handler rethrows.
+     */
+    public <A> A scan(List<Path> regions, Supplier<A> supplier, ChunkConsumer<A> consumer, BinaryOperator<A> combiner) {
+        return pool.invoke(new RegionsTask<>(regions, 0, regions.size(), supplier, consumer, combiner, handler));
+    }
+
+    /**
+     * Reports every chunk of the region files in the specified directory to a visitor.
+     * Each task reports its chunks to its own visitor.
+     *
+     * @param directory the directory holding the region files.
+     * @param supplier creates the visitor of each task.
+     * @param combiner merges the visitors of two tasks.
+     * @param <V> the type of the visitor.
+     * @return the merged visitor.
+     * @throws NBTException if the directory cannot be listed, or if a chunk cannot be read and the handler rethrows.
+     */
+    public <V extends NBTVisitor> V visit(Path directory, Supplier<V> supplier, BinaryOperator<V> combiner) {
+        return scan(directory, supplier, (visitor, x, z, input) -> reader.read(input, visitor), combiner);
+    }
+
+    private static final class RegionsTask<A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Path> regions;
+        private final int from;
+        private final int to;
+        private final transient Supplier<A> supplier;
+        private final transient ChunkConsumer<A> consumer;
+        private final transient BinaryOperator<A> combiner;
+        private final transient ScanErrorHandler handler;
+
+        RegionsTask(List<Path> regions, int from, int to, Supplier<A> supplier, ChunkConsumer<A> consumer, BinaryOperator<A> combiner, ScanErrorHandler handler) {
+            this.regions  = regions;
+            this.from     = from;
+            this.to       = to;
+            this.supplier = supplier;
+            this.consumer = consumer;
+            this.combiner = combiner;
+            this.handler  = handler;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from == 0) {
+                return supplier.get();
+            }
+            if (to - from == 1) {
+                return scanRegion(regions.get(from));
+            }
+            int middle = (from + to) >>> 1;
+            var left = new RegionsTask<>(regions, from, middle, supplier, consumer, combiner, handler);
+            left.fork();
+            var right = new RegionsTask<>(regions, middle, to, supplier, consumer, combiner, handler).compute();
+            return combiner.apply(left.join(), right);
+        }
+
+        private A scanRegion(Path path) {
+            var matcher = REGION_NAME.matcher(path.getFileName().toString());
+            if (!matcher.matches()) {
+                handler.failed(path, ScanErrorHandler.WHOLE_REGION, ScanErrorHandler.WHOLE_REGION, new NBTException("Invalid region file name: " + path));
+                return supplier.get();
+            }
+            int regionX = Integer.parseInt(matcher.group(1));
+            int regionZ = Integer.parseInt(matcher.group(2));
+            RegionFile region;
+            try {
+                region = new RegionFile(path, false);
+            } catch (NBTException exception) {
+                handler.failed(path, ScanErrorHandler.WHOLE_REGION, ScanErrorHandler.WHOLE_REGION, exception);
+                return supplier.get();
+            }
+            try (region) {
+                return new ChunksTask<>(region, regionX, regionZ, 0, RegionFile.REGION_SIZE, supplier, consumer, combiner, handler).compute();
+            }
+        }
+
+    }
+
+    private static final class ChunksTask<A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient RegionFile region;
+        private final int regionX;
+        private final int regionZ;
+        private final int from;
+        private final int to;
+        private final transient Supplier<A> supplier;
+        private final transient ChunkConsumer<A> consumer;
+        private final transient BinaryOperator<A> combiner;
+        private final transient ScanErrorHandler handler;
+
+        ChunksTask(RegionFile region, int regionX, int regionZ, int from, int to, Supplier<A> supplier, ChunkConsumer<A> consumer, BinaryOperator<A> combiner, ScanErrorHandler handler) {
+            this.region   = region;
+            this.regionX  = regionX;
+            this.regionZ  = regionZ;
+            this.from     = from;
+            this.to       = to;
+            this.supplier = supplier;
+            this.consumer = consumer;
+            this.combiner = combiner;
+            this.handler  = handler;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                A result = supplier.get();
+                for (int z = from; z < to; z++) {
+                    for (int x = 0; x < RegionFile.REGION_SIZE; x++) {
+                        int chunkX = regionX * RegionFile.REGION_SIZE + x;
+                        int chunkZ = regionZ * RegionFile.REGION_SIZE + z;
+                        try {
+                            var input = region.input(x, z);
+                            if (input != null) {
+                                consumer.accept(result, chunkX, chunkZ, input);
+                            }
+                        } catch (RuntimeException exception) { // corrupt data may also fail with out of bounds lengths
+                            handler.failed(region.path(), chunkX, chunkZ, exception instanceof NBTException nbt ? nbt : new NBTException(exception));
+                        }
+                    }
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            var left = new ChunksTask<>(region, regionX, regionZ, from, middle, supplier, consumer, combiner, handler);
+            left.fork();
+            var right = new ChunksTask<>(region, regionX, regionZ, middle, to, supplier, consumer, combiner, handler).compute();
+            return combiner.apply(left.join(), right);
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 import java.util.Arrays;
 
@@ -42,6 +43,11 @@ public class ByteArrayTag implements Tag {
         return TagType.TAG_Byte_Array;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return EncodedSize.ofInt(value.length, stream) + value.length;
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof ByteArrayTag tag) {
@@ -0,0 +1,92 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ListTag} of {@link ByteTag}s backed by a {@code byte} array, without an object per entry.
+ * <p>
+ * The entries are only wrapped into {@link ByteTag}s when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class ByteListTag extends PrimitiveListTag<ByteTag> {
+
+    /**
+     * Creates a new {@link ByteListTag} backed by the specified array.
+     *
+     * @param values the entries of the list, the array is not copied.
+     * @return the new tag.
+     * @throws NullPointerException if the array is null.
+     */
+    public static ByteListTag create(byte... values) {
+        return new ByteListTag(values);
+    }
+
+    private final byte[] values;
+
+    private ByteListTag(byte[] values) {
+        super(TagType.TAG_Byte, ByteTag.class);
+        if (values == null) {
+            throw new NullPointerException("values == null");
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public byte getByte(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array backing this list, which is not copied.
+     *
+     * @return the entries of this list.
+     */
+    public byte[] array() {
+        return values;
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        return ByteTag.create(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    long entriesSize(NBTStream stream) {
+        return (long) values.length * Byte.BYTES;
+    }
+
+    @Override
+    ListTag copyWith(int index, ByteTag entry) {
+        var copy = Arrays.copyOf(values, Math.max(values.length, index + 1));
+        copy[index] = entry.primitiveValue();
+        return new ByteListTag(copy);
+    }
+
+    @Override
+    int entriesHash() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    boolean sameEntries(Object other) {
+        return Arrays.equals(values, ((ByteListTag) other).values);
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * A {@link Tag} that contains a single {@code byte} value.
@@ -55,6 +56,11 @@ public class ByteTag implements Tag {
         return TagType.TAG_Byte;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return Byte.BYTES;
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof ByteTag tag) {
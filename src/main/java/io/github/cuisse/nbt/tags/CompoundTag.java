@@ -3,21 +3,33 @@ package io.github.cuisse.nbt.tags;
 import io.github.cuisse.nbt.NamedTag;
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * A {@link Tag} that contains a map of {@link String} to {@link Tag}.
+ * <p>
+ * Entries are stored in parallel arrays of names, tags and precomputed name hashes, in the
+ * order they were added. Small compounds are searched linearly by hash, larger ones also
+ * keep an open-addressed index into the arrays.
  *
  * @author Brayan Roman
  * @since  1.0.0
  */
 public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
 
-    public static final CompoundTag DEFAULT = new CompoundTag(Collections.emptyMap());
+    public static final CompoundTag DEFAULT = new CompoundTag(new String[0], new Tag[0]);
+
+    private static final int LINEAR_THRESHOLD = 8;
+    private static final int PERSISTENT_THRESHOLD = 32;
 
     /**
      * <p>Creates a new {@link CompoundTag} with the given objects as the tags.</p>
@@ -36,15 +48,13 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
             if (objects.length % 2 != 0) {
                 throw new IndexOutOfBoundsException("Odd number of objects");
             }
-            if (objects.length == 2) {
-                return new CompoundTag(Map.of(String.valueOf(objects[0]), Tag.from(objects[1])));
-            } else {
-                var map = new HashMap<String, Tag>();
-                for (int i = 0; i < objects.length; i += 2) {
-                    map.put(String.valueOf(objects[i]), Tag.from(objects[i + 1]));
-                }
-                return new CompoundTag(map);
+            var names = new String[objects.length / 2];
+            var tags  = new Tag[objects.length / 2];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = String.valueOf(objects[i * 2]);
+                tags[i]  = Tag.from(objects[i * 2 + 1]);
             }
+            return new CompoundTag(names, tags);
         }
     }
 
@@ -55,7 +65,34 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
      * @return The new compound tag.
      */
     public static CompoundTag create(Map<String, Tag> value) {
-        return new CompoundTag(value);
+        var names = new String[value.size()];
+        var tags  = new Tag[value.size()];
+        int index = 0;
+        for (Map.Entry<String, Tag> entry : value.entrySet()) {
+            names[index] = entry.getKey();
+            tags[index]  = entry.getValue();
+            index++;
+        }
+        return new CompoundTag(names, tags);
+    }
+
+    /**
+     * Creates a new {@link CompoundTag} with the given names and tags, the tag at each
+     * index being named by the name at the same index. When a name repeats, the last tag wins.
+     * <p>
+     * The arrays are owned by the compound tag afterward and must not be modified.
+     *
+     * @param names The names of the tags.
+     * @param tags The tags to add to the compound tag.
+     * @return The new compound tag.
+     * @throws IllegalArgumentException If the arrays differ in length or hold a null.
+     * @since 2.1.0
+     */
+    public static CompoundTag create(String[] names, Tag[] tags) {
+        if (names.length != tags.length) {
+            throw new IllegalArgumentException("Expected as many names as tags, got " + names.length + " and " + tags.length);
+        }
+        return names.length == 0 ? DEFAULT : new CompoundTag(names, tags);
     }
 
     /**
@@ -65,14 +102,16 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
      * @return The new compound tag.
      */
     public static CompoundTag create(NamedTag... tags) {
-        var map = new HashMap<String, Tag>();
-        for (NamedTag tag : tags) {
-            if (tag == null) {
+        var names  = new String[tags.length];
+        var values = new Tag[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] == null) {
                 throw new IllegalArgumentException("Tag cannot be null");
             }
-            map.put(tag.name(), tag.tag());
+            names[i]  = tags[i].name();
+            values[i] = tags[i].tag();
         }
-        return new CompoundTag(map);
+        return new CompoundTag(names, values);
     }
 
     /**
@@ -81,28 +120,127 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
      * @param compoundTag The compound tag to add the tags to.
      * @param tags The tags to add to the compound tag.
      * @return The new compound tag.
+     * @see #with(String, Tag)
      */
     public static CompoundTag create(CompoundTag compoundTag, NamedTag... tags) {
-        var map = new HashMap<>(compoundTag.value);
+        int size   = compoundTag.size();
+        var names  = new String[size + tags.length];
+        var values = new Tag[size + tags.length];
+        int index  = 0;
+        for (Map.Entry<String, Tag> entry : compoundTag) {
+            names[index]  = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
         for (NamedTag tag : tags) {
             if (tag == null) {
                 throw new IllegalArgumentException("Tag cannot be null");
             }
-            map.put(tag.name(), tag.tag());
+            names[index]  = tag.name();
+            values[index] = tag.tag();
+            index++;
         }
-        return new CompoundTag(map);
+        return new CompoundTag(names, values);
     }
 
-    private final Map<String, Tag> value;
+    /**
+     * Creates a new {@link Builder} of compound tags.
+     *
+     * @return The new builder.
+     * @since 2.1.0
+     */
+    public static Builder builder() {
+        return new Builder(8);
+    }
+
+    /**
+     * Creates a new {@link Builder} of compound tags, sized for the expected number of tags.
+     *
+     * @param expectedSize The expected number of tags.
+     * @return The new builder.
+     * @throws IllegalArgumentException If the expected size is negative.
+     * @since 2.1.0
+     */
+    public static Builder builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+        return new Builder(expectedSize);
+    }
+
+    private final String[] names;
+    private final Tag[] tags;
+    private final int[] hashes;
+    private final int[] index;
     private volatile int hashcode;
+    private volatile int[] sizes;
 
-    private CompoundTag(Map<String, Tag> value) {
-        this.value = unmodifiable(value);
+    private CompoundTag(String[] names, Tag[] tags) {
+        int length = names.length;
+        var hashes = new int[length];
+        var index  = length > LINEAR_THRESHOLD ? new int[tableSize(length)] : null;
+        int size   = 0;
+        for (int i = 0; i < length; i++) {
+            String name = names[i];
+            Tag tag = tags[i];
+            if (name == null || tag == null) {
+                throw new IllegalArgumentException("Tag cannot be null");
+            }
+            int hash = name.hashCode();
+            int existing = indexOf(names, hashes, index, size, name, hash);
+            if (existing >= 0) {
+                tags[existing] = tag; // last one wins, like Map.put
+                continue;
+            }
+            names[size]  = name;
+            tags[size]   = tag;
+            hashes[size] = hash;
+            if (index != null) {
+                insert(index, hash, size);
+            }
+            size++;
+        }
+        if (size < length) {
+            names  = Arrays.copyOf(names, size);
+            tags   = Arrays.copyOf(tags, size);
+            hashes = Arrays.copyOf(hashes, size);
+            if (index != null && size <= LINEAR_THRESHOLD) {
+                index = null;
+            }
+        }
+        this.names  = names;
+        this.tags   = tags;
+        this.hashes = hashes;
+        this.index  = index;
+    }
+
+    private CompoundTag(String[] names, Tag[] tags, int[] hashes, int[] index) {
+        this.names  = names;
+        this.tags   = tags;
+        this.hashes = hashes;
+        this.index  = index;
     }
 
+    /**
+     * Constructor for subclasses that provide their own storage by overriding
+     * {@link #get(String, Class)}, {@link #size()} and {@link #iterator()}, and preferably
+     * {@link #cursor()}; the view returned by {@link #value()} is built on them.
+     */
+    protected CompoundTag() {
+        this.names  = null;
+        this.tags   = null;
+        this.hashes = null;
+        this.index  = null;
+    }
+
+    /**
+     * Returns an unmodifiable view of the tags of this compound tag.
+     *
+     * @return The map of names to tags.
+     */
     @Override
     public Map<String, Tag> value() {
-        return value;
+        return new View();
     }
 
     @Override
@@ -128,8 +266,8 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
      * @return The tag with the given name.
      */
     public<T extends Tag> T get(String name, Class<T> expectedType) {
-        Tag tag = value.get(name);
-        return tag != null ? expectedType.cast(tag) : null;
+        int i = name != null ? indexOf(names, hashes, index, names.length, name, name.hashCode()) : -1;
+        return i >= 0 ? expectedType.cast(tags[i]) : null;
     }
 
     /**
@@ -138,13 +276,139 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
      * @return The size of the compound tag.
      */
     public int size() {
-        return value.size();
+        return names.length;
+    }
+
+    /**
+     * Returns a compound tag with the specified tag added, or replacing the tag with the same name,
+     * leaving this one unchanged.
+     * <p>
+     * Compounds of fewer than 32 entries, including those of subclasses such as lazily read
+     * compounds, are copied in order. Larger ones are converted once into a hash trie, whose updates
+     * only copy the path to the changed entry and share everything else with the original, so
+     * repeated updates of a large compound stay cheap. The entries of the trie are no longer
+     * iterated in insertion order.
+     *
+     * @param name The name of the tag.
+     * @param tag The tag to add.
+     * @return The updated compound tag, or this one if the tag is already present.
+     * @throws IllegalArgumentException If the name or the tag is null.
+     * @since 2.1.0
+     */
+    public CompoundTag with(String name, Tag tag) {
+        if (name == null || tag == null) {
+            throw new IllegalArgumentException("Tag cannot be null");
+        }
+        if (size() >= PERSISTENT_THRESHOLD) {
+            return PersistentCompoundTag.copyOf(this).with(name, tag);
+        }
+        if (names == null) {
+            return compact().with(name, tag);
+        }
+        int i = indexOf(names, hashes, index, names.length, name, name.hashCode());
+        if (i >= 0) {
+            if (tags[i] == tag) {
+                return this;
+            }
+            var copy = tags.clone();
+            copy[i] = tag;
+            return new CompoundTag(names, copy, hashes, index); // same names, share the lookup
+        }
+        var newNames = Arrays.copyOf(names, names.length + 1);
+        var newTags  = Arrays.copyOf(tags, tags.length + 1);
+        newNames[names.length] = name;
+        newTags[tags.length]   = tag;
+        return new CompoundTag(newNames, newTags);
+    }
+
+    /**
+     * Returns a compound tag without the tag with the specified name, leaving this one unchanged.
+     * Like {@link #with(String, Tag)}, large compounds share their structure with the result.
+     *
+     * @param name The name of the tag to remove.
+     * @return The updated compound tag, or this one if no tag has the specified name.
+     * @since 2.1.0
+     */
+    public CompoundTag without(String name) {
+        if (get(name) == null) {
+            return this;
+        }
+        if (size() >= PERSISTENT_THRESHOLD) {
+            return PersistentCompoundTag.copyOf(this).without(name);
+        }
+        if (names == null) {
+            return compact().without(name);
+        }
+        int i = indexOf(names, hashes, index, names.length, name, name.hashCode());
+        var newNames = new String[names.length - 1];
+        var newTags  = new Tag[tags.length - 1];
+        System.arraycopy(names, 0, newNames, 0, i);
+        System.arraycopy(names, i + 1, newNames, i, newNames.length - i);
+        System.arraycopy(tags, 0, newTags, 0, i);
+        System.arraycopy(tags, i + 1, newTags, i, newTags.length - i);
+        return create(newNames, newTags);
+    }
+
+    /**
+     * Copies the entries of a subclass into a compound tag backed by arrays, in the same order.
+     */
+    private CompoundTag compact() {
+        var names = new String[size()];
+        var tags  = new Tag[names.length];
+        int size  = 0;
+        for (var cursor = cursor(); cursor.next() && size < names.length; size++) {
+            names[size] = cursor.name();
+            tags[size]  = cursor.tag();
+        }
+        return size == names.length ? create(names, tags) : create(Arrays.copyOf(names, size), Arrays.copyOf(tags, size));
+    }
+
+    /**
+     * Performs the given action for each name and tag of this compound tag, without
+     * allocating an entry for each of them.
+     *
+     * @param action The action to perform.
+     * @since 2.1.0
+     */
+    public void forEach(BiConsumer<? super String, ? super Tag> action) {
+        if (names == null) {
+            for (var cursor = cursor(); cursor.next(); ) {
+                action.accept(cursor.name(), cursor.tag());
+            }
+        } else {
+            for (int i = 0; i < names.length; i++) {
+                action.accept(names[i], tags[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the encoded size of the payload of this compound tag, computed once per format.
+     *
+     * @param stream The NBT stream type.
+     * @return The encoded size of the payload of this compound tag.
+     */
+    @Override
+    public int encodedSize(NBTStream stream) {
+        int[] sizes = this.sizes;
+        if (sizes == null) {
+            this.sizes = sizes = new int[NBTStream.values().length];
+        }
+        int size = sizes[stream.ordinal()];
+        if (size == 0) {
+            long total = Byte.BYTES; // TAG_End
+            for (Map.Entry<String, Tag> entry : this) {
+                total += Byte.BYTES + EncodedSize.ofString(entry.getKey(), stream) + entry.getValue().encodedSize(stream);
+            }
+            sizes[stream.ordinal()] = size = Math.toIntExact(total);
+        }
+        return size;
     }
 
     @Override
     public int compareTo(Tag other) {
         if (other instanceof CompoundTag tag) {
-            return Integer.compare(value.size(), tag.value.size());
+            return Integer.compare(size(), tag.size());
         } else {
             throw new IllegalArgumentException("Cannot compare " + getClass().getSimpleName() + " to " + other.getClass().getSimpleName());
         }
@@ -154,9 +418,8 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
     public int hashCode() {
         if (hashcode == 0) {
             int hash = 1;
-            for (Map.Entry<String, Tag> entry : value.entrySet()) {
-                hash = 31 * hash + entry.getKey().hashCode();
-                hash = 31 * hash + entry.getValue().hashCode();
+            for (Map.Entry<String, Tag> entry : this) {
+                hash += entry.getKey().hashCode() ^ entry.getValue().hashCode(); // order independent
             }
             hashcode = Tag.hash(hash);
         }
@@ -168,11 +431,11 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
         if (other == this) { return true; }
         if (other == null) { return false; }
         if (other instanceof CompoundTag tag) {
-            if (value.size() != tag.value.size()) {
+            if (size() != tag.size()) {
                 return false;
             }
-            for (Map.Entry<String, Tag> entry : value.entrySet()) {
-                if (!entry.getValue().equals(tag.value.get(entry.getKey()))) {
+            for (Map.Entry<String, Tag> entry : this) {
+                if (!entry.getValue().equals(tag.get(entry.getKey()))) {
                     return false;
                 }
             }
@@ -181,23 +444,389 @@ public class CompoundTag implements Tag, Iterable<Map.Entry<String, Tag>> {
         return false;
     }
 
+    /**
+     * Returns a cursor over the entries of this compound tag, in the order of {@link #iterator()}.
+     * <p>
+     * Unlike the iterator, the cursor does not allocate an entry for each name and tag, which
+     * makes it the cheaper way to walk the entries without a callback.
+     *
+     * @return a new cursor, before the first entry.
+     * @since 2.1.0
+     */
+    public Cursor cursor() {
+        return names != null ? new ArrayCursor(names, tags) : new EntryCursor(iterator());
+    }
+
     @Override
     public Iterator<Map.Entry<String, Tag>> iterator() {
-        return value.entrySet().iterator();
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < names.length;
+            }
+
+            @Override
+            public Map.Entry<String, Tag> next() {
+                if (index >= names.length) {
+                    throw new NoSuchElementException();
+                }
+                int current = index++;
+                return new AbstractMap.SimpleImmutableEntry<>(names[current], tags[current]);
+            }
+        };
     }
 
     @Override
     public String toString() {
-        return "TAG_COMPOUND(" + value + ")";
+        return "TAG_COMPOUND(" + value() + ")";
     }
 
-    private Map<String, Tag> unmodifiable(Map<String, Tag> value) {
-        try {
-            value.putAll(Map.of());
-            return Collections.unmodifiableMap(value);
-        } catch (UnsupportedOperationException ignored) {
-            return value;
+    private static int indexOf(String[] names, int[] hashes, int[] index, int size, String name, int hash) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash && names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = spread(hash) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int i = index[slot] - 1;
+            if (hashes[i] == hash && names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void insert(int[] index, int hash, int i) {
+        int mask = index.length - 1;
+        int slot = spread(hash) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
         }
+        index[slot] = i + 1;
+    }
+
+    private static int tableSize(int size) {
+        return Integer.highestOneBit(size * 2 - 1) << 1; // load factor of at most 0.5
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * An index of names by their precomputed hashes, for subclasses that store their own entries
+     * but look them up like a {@link CompoundTag}: small sets of names are searched linearly by
+     * hash, larger ones through an open-addressed table.
+     *
+     * @since 2.1.0
+     */
+    protected static final class NameIndex {
+
+        private final String[] names;
+        private final int[] hashes;
+        private final int[] index;
+        private final int size;
+
+        /**
+         * Indexes the specified names, which are not copied. When a name repeats, its first
+         * position is found.
+         *
+         * @param names The names to index.
+         */
+        public NameIndex(String[] names) {
+            this.names  = names;
+            this.hashes = new int[names.length];
+            this.index  = names.length > LINEAR_THRESHOLD ? new int[tableSize(names.length)] : null;
+            int size = 0;
+            for (int i = 0; i < names.length; i++) {
+                int hash = names[i].hashCode();
+                hashes[i] = hash;
+                if (CompoundTag.indexOf(names, hashes, index, i, names[i], hash) >= 0) {
+                    continue; // repeated, the first position is kept
+                }
+                if (index != null) {
+                    insert(index, hash, i);
+                }
+                size++;
+            }
+            this.size = size;
+        }
+
+        /**
+         * Returns the number of distinct names of this index.
+         *
+         * @return The number of distinct names.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the position of the specified name.
+         *
+         * @param name The name to look up.
+         * @return The position of the name, or -1 if it is not indexed.
+         */
+        public int indexOf(String name) {
+            return name != null ? CompoundTag.indexOf(names, hashes, index, names.length, name, name.hashCode()) : -1;
+        }
+
+    }
+
+    /**
+     * A mutable accumulator of named tags, frozen into a {@link CompoundTag} by {@link #build()}.
+     * <p>
+     * The names and tags are accumulated in arrays that are handed over to the compound tag as they
+     * are, without any intermediate map or copy when the expected size was right. The typed
+     * {@code put} methods create the tags directly, without boxing their values. As with
+     * {@link Map#put}, a name added twice keeps its last tag.
+     * <p>
+     * A builder is not thread-safe. It is empty again after {@link #build()} and can be reused.
+     *
+     * @since 2.1.0
+     */
+    public static final class Builder {
+
+        private String[] names;
+        private Tag[] tags;
+        private int size;
+
+        private Builder(int capacity) {
+            this.names = new String[capacity];
+            this.tags  = new Tag[capacity];
+        }
+
+        /**
+         * Adds the specified tag.
+         *
+         * @param name The name of the tag.
+         * @param tag The tag to add.
+         * @return This builder.
+         * @throws IllegalArgumentException If the name or the tag is null.
+         */
+        public Builder put(String name, Tag tag) {
+            if (name == null || tag == null) {
+                throw new IllegalArgumentException("Tag cannot be null");
+            }
+            if (size == names.length) {
+                int capacity = Math.max(8, size + (size >> 1));
+                names = Arrays.copyOf(names, capacity);
+                tags  = Arrays.copyOf(tags, capacity);
+            }
+            names[size] = name;
+            tags[size]  = tag;
+            size++;
+            return this;
+        }
+
+        public Builder putByte(String name, byte value) {
+            return put(name, ByteTag.create(value));
+        }
+
+        public Builder putShort(String name, short value) {
+            return put(name, ShortTag.create(value));
+        }
+
+        public Builder putInt(String name, int value) {
+            return put(name, IntTag.create(value));
+        }
+
+        public Builder putLong(String name, long value) {
+            return put(name, LongTag.create(value));
+        }
+
+        public Builder putFloat(String name, float value) {
+            return put(name, FloatTag.create(value));
+        }
+
+        public Builder putDouble(String name, double value) {
+            return put(name, DoubleTag.create(value));
+        }
+
+        public Builder putString(String name, String value) {
+            return put(name, StringTag.create(value));
+        }
+
+        public Builder putByteArray(String name, byte[] value) {
+            return put(name, ByteArrayTag.create(value));
+        }
+
+        public Builder putIntArray(String name, int[] value) {
+            return put(name, IntArrayTag.create(value));
+        }
+
+        public Builder putLongArray(String name, long[] value) {
+            return put(name, LongArrayTag.create(value));
+        }
+
+        /**
+         * Returns the number of tags added so far.
+         *
+         * @return The number of tags.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Creates a {@link CompoundTag} holding the added tags, and empties this builder.
+         *
+         * @return The new compound tag.
+         */
+        public CompoundTag build() {
+            if (size == 0) {
+                return DEFAULT;
+            }
+            var names = size == this.names.length ? this.names : Arrays.copyOf(this.names, size);
+            var tags  = size == this.tags.length ? this.tags : Arrays.copyOf(this.tags, size);
+            this.names = new String[0];
+            this.tags  = new Tag[0];
+            this.size  = 0;
+            return new CompoundTag(names, tags);
+        }
+
+    }
+
+    /**
+     * A cursor over the entries of a compound tag, returned by {@link CompoundTag#cursor()}.
+     * <p>
+     * A cursor starts before the first entry and is moved with {@link #next()}, the name and the tag
+     * of the entry it is on can then be read any number of times until it is moved again.
+     *
+     * @since 2.1.0
+     */
+    public abstract static class Cursor {
+
+        /**
+         * Constructor for subclasses.
+         */
+        protected Cursor() {
+        }
+
+        /**
+         * Moves this cursor to the next entry.
+         *
+         * @return true if the cursor is on an entry, false if there are no more entries.
+         */
+        public abstract boolean next();
+
+        /**
+         * Returns the name of the current entry.
+         *
+         * @return the name of the entry.
+         */
+        public abstract String name();
+
+        /**
+         * Returns the tag of the current entry.
+         *
+         * @return the tag of the entry.
+         */
+        public abstract Tag tag();
+
+    }
+
+    private static final class ArrayCursor extends Cursor {
+
+        private final String[] names;
+        private final Tag[] tags;
+        private int index = -1;
+
+        private ArrayCursor(String[] names, Tag[] tags) {
+            this.names = names;
+            this.tags  = tags;
+        }
+
+        @Override
+        public boolean next() {
+            if (index < names.length) {
+                index++;
+            }
+            return index < names.length;
+        }
+
+        @Override
+        public String name() {
+            return names[index];
+        }
+
+        @Override
+        public Tag tag() {
+            return tags[index];
+        }
+
+    }
+
+    private static final class EntryCursor extends Cursor {
+
+        private final Iterator<Map.Entry<String, Tag>> iterator;
+        private Map.Entry<String, Tag> entry;
+
+        private EntryCursor(Iterator<Map.Entry<String, Tag>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean next() {
+            entry = iterator.hasNext() ? iterator.next() : null;
+            return entry != null;
+        }
+
+        @Override
+        public String name() {
+            return entry.getKey();
+        }
+
+        @Override
+        public Tag tag() {
+            return entry.getValue();
+        }
+
+    }
+
+    private final class View extends AbstractMap<String, Tag> {
+
+        @Override
+        public Tag get(Object key) {
+            return key instanceof String name ? CompoundTag.this.get(name) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return CompoundTag.this.size();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Tag> action) {
+            CompoundTag.this.forEach(action);
+        }
+
+        @Override
+        public Set<Entry<String, Tag>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Tag>> iterator() {
+                    return CompoundTag.this.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return CompoundTag.this.size();
+                }
+            };
+        }
+
     }
 
 }
@@ -0,0 +1,101 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ListTag} of {@link DoubleTag}s backed by a {@code double} array, without an object per entry.
+ * <p>
+ * The entries are only wrapped into {@link DoubleTag}s when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class DoubleListTag extends PrimitiveListTag<DoubleTag> {
+
+    /**
+     * Creates a new {@link DoubleListTag} backed by the specified array.
+     *
+     * @param values the entries of the list, the array is not copied.
+     * @return the new tag.
+     * @throws NullPointerException if the array is null.
+     */
+    public static DoubleListTag create(double... values) {
+        return new DoubleListTag(values);
+    }
+
+    private final double[] values;
+
+    private DoubleListTag(double[] values) {
+        super(TagType.TAG_Double, DoubleTag.class);
+        if (values == null) {
+            throw new NullPointerException("values == null");
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array backing this list, which is not copied.
+     *
+     * @return the entries of this list.
+     */
+    public double[] array() {
+        return values;
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        return DoubleTag.create(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    long entriesSize(NBTStream stream) {
+        return (long) values.length * Double.BYTES;
+    }
+
+    @Override
+    ListTag copyWith(int index, DoubleTag entry) {
+        var copy = Arrays.copyOf(values, Math.max(values.length, index + 1));
+        copy[index] = entry.primitiveValue();
+        return new DoubleListTag(copy);
+    }
+
+    @Override
+    int entriesHash() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    boolean sameEntries(Object other) {
+        var entries = ((DoubleListTag) other).values;
+        if (values.length != entries.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != entries[i]) { // like DoubleTag.equals
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.Utf8;
+
+/**
+ * Helpers for computing the number of bytes taken by values once encoded in a {@link NBTStream}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class EncodedSize {
+
+    /**
+     * Returns the encoded size of an {@code int}, or of the length of an array or a list.
+     */
+    static int ofInt(int value, NBTStream stream) {
+        return stream == NBTStream.VARINT ? unsignedVarInt((value << 1) ^ (value >> 31)) : Integer.BYTES;
+    }
+
+    /**
+     * Returns the encoded size of a {@code long}.
+     */
+    static int ofLong(long value, NBTStream stream) {
+        return stream == NBTStream.VARINT ? unsignedVarLong((value << 1) ^ (value >> 63)) : Long.BYTES;
+    }
+
+    /**
+     * Returns the encoded size of a string, including its length.
+     */
+    static int ofString(String value, NBTStream stream) {
+        int length = Utf8.encodedLength(value);
+        return (stream == NBTStream.VARINT ? unsignedVarInt(length) : Short.BYTES) + length;
+    }
+
+    static int unsignedVarInt(int value) {
+        return value == 0 ? 1 : (Integer.SIZE - Integer.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    static int unsignedVarLong(long value) {
+        return value == 0 ? 1 : (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    private EncodedSize() {
+        // nope
+    }
+
+}
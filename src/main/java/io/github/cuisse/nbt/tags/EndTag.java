@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * EndTags are used to mark the end of a list or compound tag.
@@ -34,6 +35,11 @@ public class EndTag implements Tag {
         return TagType.TAG_End;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return Byte.BYTES; // written as a single zero byte
+    }
+
     @Override
     public int compareTo(Tag other) {
         return 0;
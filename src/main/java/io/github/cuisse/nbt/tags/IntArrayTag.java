@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 import java.util.Arrays;
 
@@ -42,6 +43,18 @@ public class IntArrayTag implements Tag {
         return TagType.TAG_Int_Array;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        if (stream != NBTStream.VARINT) {
+            return Integer.BYTES + value.length * Integer.BYTES;
+        }
+        int size = EncodedSize.ofInt(value.length, stream);
+        for (int i : value) {
+            size += EncodedSize.ofInt(i, stream);
+        }
+        return size;
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof IntArrayTag tag) {
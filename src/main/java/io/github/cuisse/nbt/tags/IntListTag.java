@@ -0,0 +1,99 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ListTag} of {@link IntTag}s backed by a {@code int} array, without an object per entry.
+ * <p>
+ * The entries are only wrapped into {@link IntTag}s when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class IntListTag extends PrimitiveListTag<IntTag> {
+
+    /**
+     * Creates a new {@link IntListTag} backed by the specified array.
+     *
+     * @param values the entries of the list, the array is not copied.
+     * @return the new tag.
+     * @throws NullPointerException if the array is null.
+     */
+    public static IntListTag create(int... values) {
+        return new IntListTag(values);
+    }
+
+    private final int[] values;
+
+    private IntListTag(int[] values) {
+        super(TagType.TAG_Int, IntTag.class);
+        if (values == null) {
+            throw new NullPointerException("values == null");
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array backing this list, which is not copied.
+     *
+     * @return the entries of this list.
+     */
+    public int[] array() {
+        return values;
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        return IntTag.create(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    long entriesSize(NBTStream stream) {
+        if (stream != NBTStream.VARINT) {
+            return (long) values.length * Integer.BYTES;
+        }
+        long size = 0;
+        for (int value : values) {
+            size += EncodedSize.ofInt(value, stream);
+        }
+        return size;
+    }
+
+    @Override
+    ListTag copyWith(int index, IntTag entry) {
+        var copy = Arrays.copyOf(values, Math.max(values.length, index + 1));
+        copy[index] = entry.primitiveValue();
+        return new IntListTag(copy);
+    }
+
+    @Override
+    int entriesHash() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    boolean sameEntries(Object other) {
+        return Arrays.equals(values, ((IntListTag) other).values);
+    }
+
+}
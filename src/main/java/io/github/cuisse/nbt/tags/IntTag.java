@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * A {@link Tag} that contains a {@code float} value.
@@ -56,6 +57,11 @@ public class IntTag implements Tag {
         return TagType.TAG_Int;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return EncodedSize.ofInt(value, stream);
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof IntTag tag) {
@@ -2,11 +2,13 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * A {@link Tag} that contains a list of {@link Tag}s.
@@ -21,6 +23,8 @@ public class ListTag implements Tag {
 
     public static final ListTag DEFAULT = new ListTag(TagType.TAG_End, Collections.emptyList());
 
+    private static final int PERSISTENT_THRESHOLD = 32;
+
     public static ListTag create(TagType type, List<Tag> value) {
         return new ListTag(type, value);
     }
@@ -56,16 +60,69 @@ public class ListTag implements Tag {
      * @param tag The {@link TagType} of the {@link ListTag}.
      * @param tags The {@link Tag}s to add to the {@link ListTag}.
      * @return A new {@link ListTag} with the specified {@link TagType} and {@link Tag}s.
+     * @see #append(Tag)
      */
     public static<T extends Tag> ListTag create(ListTag tag, T... tags) {
-        List<Tag> list = new ArrayList<>(tag.value);
+        List<Tag> list = new ArrayList<>(tag.value());
         list.addAll(Arrays.asList(tags));
         return new ListTag(tag.getType(), list);
     }
 
+    /**
+     * Creates a new {@link Builder} of lists with the specified {@link TagType}.
+     *
+     * @param type The {@link TagType} of the children {@link Tag}s.
+     * @return The new builder.
+     * @since 2.1.0
+     */
+    public static Builder builder(TagType type) {
+        return builder(type, 8);
+    }
+
+    /**
+     * Creates a new {@link Builder} of lists with the specified {@link TagType}, sized for the expected number of tags.
+     *
+     * @param type The {@link TagType} of the children {@link Tag}s.
+     * @param expectedSize The expected number of tags.
+     * @return The new builder.
+     * @throws NullPointerException If the type is null.
+     * @throws IllegalArgumentException If the expected size is negative.
+     * @since 2.1.0
+     */
+    public static Builder builder(TagType type, int expectedSize) {
+        if (type == null) {
+            throw new NullPointerException("type == null");
+        }
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+        }
+        return new Builder(type, expectedSize);
+    }
+
     private final TagType type;
     private final List<Tag> value;
     private volatile int hashcode;
+    private volatile int[] sizes;
+
+    /**
+     * Creates a new {@link ListTag} whose entries are provided by the subclass, which must
+     * override {@link #value()}, {@link #getAt(int)} and {@link #size()}.
+     *
+     * @param type The {@link TagType} of the children {@link Tag}s.
+     * @since 2.1.0
+     */
+    protected ListTag(TagType type) {
+        this.type  = type;
+        this.value = null;
+    }
+
+    /**
+     * Creates a new {@link ListTag} owning the specified array, whose entries have already been checked.
+     */
+    private ListTag(TagType type, Tag[] tags) {
+        this.type  = type;
+        this.value = Collections.unmodifiableList(Arrays.asList(tags));
+    }
 
     public ListTag(TagType type, List<Tag> value) {
         for (Tag tag : value) {
@@ -106,7 +163,7 @@ public class ListTag implements Tag {
     }
 
     public<T extends Tag> T getAt(int index, Class<T> clazz) {
-        return clazz.cast(value.get(index));
+        return clazz.cast(getAt(index));
     }
 
     /**
@@ -118,13 +175,97 @@ public class ListTag implements Tag {
         return value.size();
     }
 
+    /**
+     * Returns a list with the specified {@link Tag} added at the end, leaving this one unchanged.
+     * An empty list takes the {@link TagType} of the added tag.
+     * <p>
+     * Small lists are copied. Larger ones are converted once into a persistent vector, whose updates
+     * only copy the arrays leading to the changed entry and share everything else with the original,
+     * so repeated updates of a large list stay cheap.
+     *
+     * @param tag The {@link Tag} to add.
+     * @return The updated list.
+     * @throws IllegalArgumentException If the tag is null or of another {@link TagType} than the list.
+     * @since 2.1.0
+     */
+    public ListTag append(Tag tag) {
+        int size = size();
+        var type = size == 0 && tag != null ? tag.type() : this.type;
+        checkEntry(type, tag);
+        if (size >= PERSISTENT_THRESHOLD) {
+            return PersistentListTag.copyOf(this, type).append(tag);
+        }
+        var tags = new Tag[size + 1];
+        for (int i = 0; i < size; i++) {
+            tags[i] = getAt(i);
+        }
+        tags[size] = tag;
+        return new ListTag(type, tags);
+    }
+
+    /**
+     * Returns a list with the {@link Tag} at the specified index replaced, leaving this one unchanged.
+     * Like {@link #append(Tag)}, large lists share their structure with the result.
+     *
+     * @param index The index of the {@link Tag} to replace.
+     * @param tag The new {@link Tag}.
+     * @return The updated list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     * @throws IllegalArgumentException If the tag is null or of another {@link TagType} than the list.
+     * @since 2.1.0
+     */
+    public ListTag set(int index, Tag tag) {
+        int size = size();
+        Objects.checkIndex(index, size);
+        checkEntry(type, tag);
+        if (size >= PERSISTENT_THRESHOLD) {
+            return PersistentListTag.copyOf(this, type).set(index, tag);
+        }
+        var tags = new Tag[size];
+        for (int i = 0; i < size; i++) {
+            tags[i] = getAt(i);
+        }
+        tags[index] = tag;
+        return new ListTag(type, tags);
+    }
+
+    /**
+     * Returns the encoded size of the payload of this list, computed once per format.
+     *
+     * @param stream The NBT stream type.
+     * @return The encoded size of the payload of this list.
+     */
+    @Override
+    public int encodedSize(NBTStream stream) {
+        int[] sizes = this.sizes;
+        if (sizes == null) {
+            this.sizes = sizes = new int[NBTStream.values().length];
+        }
+        int size = sizes[stream.ordinal()];
+        if (size == 0) {
+            sizes[stream.ordinal()] = size = Math.toIntExact(Byte.BYTES + EncodedSize.ofInt(size(), stream) + entriesSize(stream));
+        }
+        return size;
+    }
+
+    /**
+     * Returns the encoded size of the entries of this list.
+     */
+    long entriesSize(NBTStream stream) {
+        long size = 0;
+        for (Tag tag : value()) {
+            size += tag.encodedSize(stream);
+        }
+        return size;
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof ListTag tag) {
             if (type != tag.type) {
                 throw new IllegalArgumentException("Cannot compare " + getClass().getSimpleName() + " to " + other.getClass().getSimpleName());
             }
-            return Integer.compare(value.size(), tag.value.size());
+            return Integer.compare(size(), tag.size());
         } else {
             throw new IllegalArgumentException("Cannot compare " + getClass().getSimpleName() + " to " + other.getClass().getSimpleName());
         }
@@ -134,7 +275,7 @@ public class ListTag implements Tag {
     public int hashCode() {
         if (hashcode == 0) {
             int hash = 1;
-            for (Tag tag : value) {
+            for (Tag tag : value()) {
                 hash = 31 * hash + tag.hashCode();
             }
             hashcode = Tag.hash(hash);
@@ -148,7 +289,7 @@ public class ListTag implements Tag {
             if (type != tag.type) {
                 return false;
             }
-            return value.equals(tag.value);
+            return value().equals(tag.value());
         } else {
             return false;
         }
@@ -156,7 +297,16 @@ public class ListTag implements Tag {
 
     @Override
     public String toString() {
-        return "List(" + type + ", " + value + ')';
+        return "List(" + type + ", " + value() + ')';
+    }
+
+    void checkEntry(TagType type, Tag tag) {
+        if (tag == null) {
+            throw new IllegalArgumentException("Tag cannot be null");
+        }
+        if (tag.type() != type) {
+            throw new IllegalArgumentException("Cannot add " + tag.getClass().getSimpleName() + " to " + getClass().getSimpleName());
+        }
     }
 
     private List<Tag> unmodifiable(List<Tag> value) {
@@ -168,4 +318,70 @@ public class ListTag implements Tag {
         }
     }
 
+    /**
+     * A mutable accumulator of {@link Tag}s, frozen into a {@link ListTag} by {@link #build()}.
+     * <p>
+     * The tags are accumulated in an array that is handed over to the list as it is, without any
+     * copy when the expected size was right, and checked once when added rather than again when
+     * the list is created.
+     * <p>
+     * A builder is not thread-safe. It is empty again after {@link #build()} and can be reused.
+     *
+     * @since 2.1.0
+     */
+    public static final class Builder {
+
+        private final TagType type;
+        private Tag[] tags;
+        private int size;
+
+        private Builder(TagType type, int capacity) {
+            this.type = type;
+            this.tags = new Tag[capacity];
+        }
+
+        /**
+         * Adds the specified {@link Tag} at the end of the list.
+         *
+         * @param tag The {@link Tag} to add.
+         * @return This builder.
+         * @throws IllegalArgumentException If the tag is null or of another {@link TagType} than the list.
+         */
+        public Builder add(Tag tag) {
+            if (tag == null) {
+                throw new IllegalArgumentException("Tag cannot be null");
+            }
+            if (tag.type() != type) {
+                throw new IllegalArgumentException("Cannot add " + tag.getClass().getSimpleName() + " to " + type);
+            }
+            if (size == tags.length) {
+                tags = Arrays.copyOf(tags, Math.max(8, size + (size >> 1)));
+            }
+            tags[size++] = tag;
+            return this;
+        }
+
+        /**
+         * Returns the number of tags added so far.
+         *
+         * @return The number of tags.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Creates a {@link ListTag} holding the added tags, and empties this builder.
+         *
+         * @return The new list.
+         */
+        public ListTag build() {
+            var tags = size == this.tags.length ? this.tags : Arrays.copyOf(this.tags, size);
+            this.tags = new Tag[0];
+            this.size = 0;
+            return new ListTag(type, tags);
+        }
+
+    }
+
 }
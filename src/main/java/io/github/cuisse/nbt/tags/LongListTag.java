@@ -0,0 +1,99 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ListTag} of {@link LongTag}s backed by a {@code long} array, without an object per entry.
+ * <p>
+ * The entries are only wrapped into {@link LongTag}s when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class LongListTag extends PrimitiveListTag<LongTag> {
+
+    /**
+     * Creates a new {@link LongListTag} backed by the specified array.
+     *
+     * @param values the entries of the list, the array is not copied.
+     * @return the new tag.
+     * @throws NullPointerException if the array is null.
+     */
+    public static LongListTag create(long... values) {
+        return new LongListTag(values);
+    }
+
+    private final long[] values;
+
+    private LongListTag(long[] values) {
+        super(TagType.TAG_Long, LongTag.class);
+        if (values == null) {
+            throw new NullPointerException("values == null");
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array backing this list, which is not copied.
+     *
+     * @return the entries of this list.
+     */
+    public long[] array() {
+        return values;
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        return LongTag.create(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    long entriesSize(NBTStream stream) {
+        if (stream != NBTStream.VARINT) {
+            return (long) values.length * Long.BYTES;
+        }
+        long size = 0;
+        for (long value : values) {
+            size += EncodedSize.ofLong(value, stream);
+        }
+        return size;
+    }
+
+    @Override
+    ListTag copyWith(int index, LongTag entry) {
+        var copy = Arrays.copyOf(values, Math.max(values.length, index + 1));
+        copy[index] = entry.primitiveValue();
+        return new LongListTag(copy);
+    }
+
+    @Override
+    int entriesHash() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    boolean sameEntries(Object other) {
+        return Arrays.equals(values, ((LongListTag) other).values);
+    }
+
+}
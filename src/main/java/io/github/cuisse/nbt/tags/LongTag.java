@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * A {@link Tag} that contains a {@code long} value.
@@ -55,6 +56,11 @@ public class LongTag implements Tag {
         return TagType.TAG_Long;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return EncodedSize.ofLong(value, stream);
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof LongTag tag) {
@@ -0,0 +1,305 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link CompoundTag} stored as a hash array mapped trie, returned by {@link CompoundTag#with(String, Tag)}
+ * and {@link CompoundTag#without(String)} once a compound is too large to be copied on every update.
+ * <p>
+ * Each node covers five bits of the hash of the names below it and only holds the children that exist,
+ * so an update copies the nodes on the path to the changed entry, at most seven, and shares the rest
+ * with the original compound. Entries are iterated in the order of their hashes.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class PersistentCompoundTag extends CompoundTag {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Creates a new trie holding the entries of the specified compound.
+     *
+     * @param compound the compound to copy.
+     * @return the new compound.
+     */
+    static PersistentCompoundTag copyOf(CompoundTag compound) {
+        var root = Node.EMPTY;
+        int size = 0;
+        for (Map.Entry<String, Tag> entry : compound) {
+            var leaf = new Leaf(entry.getKey(), entry.getValue(), hash(entry.getKey()));
+            if (root.find(leaf.name, leaf.hash, 0) == null) {
+                size++;
+            }
+            root = root.put(leaf, 0);
+        }
+        return new PersistentCompoundTag(root, size);
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentCompoundTag(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @Override
+    public <T extends Tag> T get(String name, Class<T> expectedType) {
+        if (name == null) {
+            return null;
+        }
+        Leaf leaf = root.find(name, hash(name), 0);
+        return leaf != null ? expectedType.cast(leaf.tag) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public CompoundTag with(String name, Tag tag) {
+        if (name == null || tag == null) {
+            throw new IllegalArgumentException("Tag cannot be null");
+        }
+        int hash = hash(name);
+        Leaf existing = root.find(name, hash, 0);
+        if (existing != null && existing.tag == tag) {
+            return this;
+        }
+        return new PersistentCompoundTag(root.put(new Leaf(name, tag, hash), 0), existing == null ? size + 1 : size);
+    }
+
+    @Override
+    public CompoundTag without(String name) {
+        if (name == null) {
+            return this;
+        }
+        int hash = hash(name);
+        if (root.find(name, hash, 0) == null) {
+            return this;
+        }
+        return size == 1 ? DEFAULT : new PersistentCompoundTag(root.remove(name, hash, 0), size - 1);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Tag> action) {
+        root.forEach(action);
+    }
+
+    @Override
+    public Cursor cursor() {
+        return new Entries();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Tag>> iterator() {
+        var cursor = new Entries();
+        return new Iterator<>() {
+            private boolean moved;
+            private boolean more;
+
+            @Override
+            public boolean hasNext() {
+                if (!moved) {
+                    more  = cursor.next();
+                    moved = true;
+                }
+                return more;
+            }
+
+            @Override
+            public Map.Entry<String, Tag> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                moved = false;
+                return new AbstractMap.SimpleImmutableEntry<>(cursor.name(), cursor.tag());
+            }
+        };
+    }
+
+    private static int hash(String name) {
+        int hash = name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Leaf(String name, Tag tag, int hash) {
+    }
+
+    /**
+     * A node of the trie, whose slots hold either a {@link Leaf} or a child {@link Node}. Below the
+     * last level, where every bit of the hash is used, a node lists the leaves whose hashes collide.
+     */
+    private static final class Node {
+
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots  = slots;
+        }
+
+        Leaf find(String name, int hash, int shift) {
+            Node node = this;
+            while (shift < Integer.SIZE) {
+                int bit = 1 << ((hash >>> shift) & MASK);
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+                Object slot = node.slots[Integer.bitCount(node.bitmap & (bit - 1))];
+                if (slot instanceof Leaf leaf) {
+                    return leaf.hash == hash && leaf.name.equals(name) ? leaf : null;
+                }
+                node = (Node) slot;
+                shift += BITS;
+            }
+            for (Object slot : node.slots) {
+                if (((Leaf) slot).name.equals(name)) {
+                    return (Leaf) slot;
+                }
+            }
+            return null;
+        }
+
+        Node put(Leaf leaf, int shift) {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < slots.length; i++) {
+                    if (((Leaf) slots[i]).name.equals(leaf.name)) {
+                        return new Node(0, replace(slots, i, leaf));
+                    }
+                }
+                return new Node(0, insert(slots, slots.length, leaf));
+            }
+            int bit = 1 << ((leaf.hash >>> shift) & MASK);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                return new Node(bitmap | bit, insert(slots, index, leaf));
+            }
+            Object replacement;
+            if (slots[index] instanceof Leaf existing) {
+                if (existing.hash == leaf.hash && existing.name.equals(leaf.name)) {
+                    replacement = leaf;
+                } else {
+                    replacement = EMPTY.put(existing, shift + BITS).put(leaf, shift + BITS);
+                }
+            } else {
+                replacement = ((Node) slots[index]).put(leaf, shift + BITS);
+            }
+            return new Node(bitmap, replace(slots, index, replacement));
+        }
+
+        /**
+         * Removes the leaf with the specified name, which must be present.
+         */
+        Node remove(String name, int hash, int shift) {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < slots.length; i++) {
+                    if (((Leaf) slots[i]).name.equals(name)) {
+                        return new Node(0, delete(slots, i));
+                    }
+                }
+                throw new IllegalStateException("Missing entry " + name);
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            if (slots[index] instanceof Leaf) {
+                return new Node(bitmap & ~bit, delete(slots, index));
+            }
+            Node child = ((Node) slots[index]).remove(name, hash, shift + BITS);
+            if (child.slots.length == 1 && child.slots[0] instanceof Leaf leaf) {
+                return new Node(bitmap, replace(slots, index, leaf)); // pull a lone leaf up
+            }
+            return new Node(bitmap, replace(slots, index, child));
+        }
+
+        void forEach(BiConsumer<? super String, ? super Tag> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Leaf leaf) {
+                    action.accept(leaf.name, leaf.tag);
+                } else {
+                    ((Node) slot).forEach(action);
+                }
+            }
+        }
+
+        private static Object[] insert(Object[] slots, int index, Object value) {
+            var copy = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+            copy[index] = value;
+            return copy;
+        }
+
+        private static Object[] replace(Object[] slots, int index, Object value) {
+            var copy = slots.clone();
+            copy[index] = value;
+            return copy;
+        }
+
+        private static Object[] delete(Object[] slots, int index) {
+            var copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, copy.length - index);
+            return copy;
+        }
+
+    }
+
+    private final class Entries extends Cursor {
+
+        // seven levels of five bits cover the hash, plus one for the collisions below them
+        private final Object[][] stack = new Object[(Integer.SIZE + BITS - 1) / BITS + 1][];
+        private final int[] positions = new int[stack.length];
+        private int depth;
+        private Leaf current;
+
+        Entries() {
+            stack[0] = root.slots;
+        }
+
+        @Override
+        public boolean next() {
+            current = null;
+            while (depth >= 0) {
+                Object[] slots = stack[depth];
+                if (positions[depth] == slots.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = slots[positions[depth]++];
+                if (slot instanceof Leaf leaf) {
+                    current = leaf;
+                    return true;
+                }
+                depth++;
+                stack[depth] = ((Node) slot).slots;
+                positions[depth] = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public String name() {
+            return current.name;
+        }
+
+        @Override
+        public Tag tag() {
+            return current.tag;
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@link ListTag} stored as a persistent vector, returned by {@link ListTag#append(Tag)} and
+ * {@link ListTag#set(int, Tag)} once a list is too large to be copied on every update.
+ * <p>
+ * Entries are kept in a trie of 32-wide arrays, except for the last ones which are kept in a
+ * separate tail. Appending copies the tail, and pushes it into the trie once full; setting an
+ * entry copies the arrays on its path, at most one per five bits of the index. Everything else
+ * is shared with the original list.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+final class PersistentListTag extends ListTag {
+
+    private static final int BITS  = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK  = WIDTH - 1;
+
+    /**
+     * Creates a new vector holding the entries of the specified list.
+     *
+     * @param list the list to copy.
+     * @param type the {@link TagType} of the entries.
+     * @return the new list.
+     */
+    static PersistentListTag copyOf(ListTag list, TagType type) {
+        int size = list.size();
+        int tailOffset = tailOffset(size);
+        var tail = new Object[size - tailOffset];
+        for (int i = 0; i < tail.length; i++) {
+            tail[i] = list.getAt(tailOffset + i);
+        }
+        Object[] nodes = new Object[tailOffset / WIDTH];
+        for (int i = 0; i < nodes.length; i++) {
+            var leaf = new Object[WIDTH];
+            for (int j = 0; j < WIDTH; j++) {
+                leaf[j] = list.getAt(i * WIDTH + j);
+            }
+            nodes[i] = leaf;
+        }
+        int shift = BITS;
+        while (nodes.length > WIDTH) {
+            var parents = new Object[(nodes.length + MASK) / WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                var parent = new Object[WIDTH];
+                System.arraycopy(nodes, i * WIDTH, parent, 0, Math.min(WIDTH, nodes.length - i * WIDTH));
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        var root = new Object[WIDTH];
+        System.arraycopy(nodes, 0, root, 0, nodes.length);
+        return new PersistentListTag(type, size, shift, root, tail);
+    }
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentListTag(TagType type, int size, int shift, Object[] root, Object[] tail) {
+        super(type);
+        this.size  = size;
+        this.shift = shift;
+        this.root  = root;
+        this.tail  = tail;
+    }
+
+    @Override
+    public List<Tag> value() {
+        return new Entries();
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        Objects.checkIndex(index, size);
+        return (Tag) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ListTag append(Tag tag) {
+        checkEntry(getType(), tag);
+        if (size - tailOffset(size) < WIDTH) {
+            var newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = tag;
+            return new PersistentListTag(getType(), size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) { // the trie is full, add a level on top
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentListTag(getType(), size + 1, newShift, newRoot, new Object[] { tag });
+    }
+
+    @Override
+    public ListTag set(int index, Tag tag) {
+        Objects.checkIndex(index, size);
+        checkEntry(getType(), tag);
+        if (index >= tailOffset(size)) {
+            var newTail = tail.clone();
+            newTail[index & MASK] = tag;
+            return new PersistentListTag(getType(), size, shift, root, newTail);
+        }
+        return new PersistentListTag(getType(), size, shift, set(shift, root, index, tag), tail);
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int index = ((size - 1) >>> level) & MASK;
+        var copy = parent.clone();
+        if (level == BITS) {
+            copy[index] = leaf;
+        } else {
+            var child = (Object[]) parent[index];
+            copy[index] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+        }
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        var node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] set(int level, Object[] node, int index, Tag tag) {
+        var copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = tag;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = set(level - BITS, (Object[]) node[child], index, tag);
+        }
+        return copy;
+    }
+
+    private static int tailOffset(int size) {
+        return size == 0 ? 0 : (size - 1) & ~MASK;
+    }
+
+    private final class Entries extends AbstractList<Tag> implements RandomAccess {
+
+        @Override
+        public Tag get(int index) {
+            return getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
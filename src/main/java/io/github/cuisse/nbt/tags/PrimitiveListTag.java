@@ -0,0 +1,112 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@link ListTag} backed by a primitive array, without an object per entry.
+ * <p>
+ * Subclasses only provide the access to their array, the entries are wrapped into tags
+ * of the entry type when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @param <T> the type of the entries.
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+abstract class PrimitiveListTag<T extends Tag> extends ListTag {
+
+    private final Class<T> entryType;
+    private volatile int hashcode;
+
+    PrimitiveListTag(TagType type, Class<T> entryType) {
+        super(type);
+        this.entryType = entryType;
+    }
+
+    @Override
+    public List<Tag> value() {
+        return new Entries();
+    }
+
+    /**
+     * Returns a list with the specified {@link Tag} added at the end, copying the backing array.
+     *
+     * @param tag the tag to add.
+     * @return the updated list.
+     */
+    @Override
+    public ListTag append(Tag tag) {
+        if (entryType.isInstance(tag)) {
+            return copyWith(size(), entryType.cast(tag));
+        }
+        return super.append(tag);
+    }
+
+    /**
+     * Returns a list with the entry at the specified index replaced, copying the backing array.
+     *
+     * @param index the index of the entry.
+     * @param tag the new entry.
+     * @return the updated list.
+     */
+    @Override
+    public ListTag set(int index, Tag tag) {
+        if (entryType.isInstance(tag)) {
+            Objects.checkIndex(index, size());
+            return copyWith(index, entryType.cast(tag));
+        }
+        return super.set(index, tag);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashcode == 0) {
+            hashcode = Tag.hash(entriesHash());
+        }
+        return hashcode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj != null && obj.getClass() == getClass()) {
+            return sameEntries(obj);
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a copy of this list with the specified entry at the specified index,
+     * which is either an index of this list or its size to append the entry.
+     */
+    abstract ListTag copyWith(int index, T entry);
+
+    /**
+     * Returns the hash of the entries of this list, like {@link java.util.Arrays#hashCode}.
+     */
+    abstract int entriesHash();
+
+    /**
+     * Returns whether the specified list, of the same class as this one, holds the same entries.
+     */
+    abstract boolean sameEntries(Object other);
+
+    private final class Entries extends AbstractList<Tag> implements RandomAccess {
+
+        @Override
+        public Tag get(int index) {
+            return getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return PrimitiveListTag.this.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
+
+import java.util.Arrays;
+
+/**
+ * A {@link ListTag} of {@link ShortTag}s backed by a {@code short} array, without an object per entry.
+ * <p>
+ * The entries are only wrapped into {@link ShortTag}s when accessed through {@link #value()} or {@link #getAt(int)}.
+ *
+ * @author Brayan Roman
+ * @since  2.1.0
+ */
+public class ShortListTag extends PrimitiveListTag<ShortTag> {
+
+    /**
+     * Creates a new {@link ShortListTag} backed by the specified array.
+     *
+     * @param values the entries of the list, the array is not copied.
+     * @return the new tag.
+     * @throws NullPointerException if the array is null.
+     */
+    public static ShortListTag create(short... values) {
+        return new ShortListTag(values);
+    }
+
+    private final short[] values;
+
+    private ShortListTag(short[] values) {
+        super(TagType.TAG_Short, ShortTag.class);
+        if (values == null) {
+            throw new NullPointerException("values == null");
+        }
+        this.values = values;
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index the index of the entry.
+     * @return the entry at the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public short getShort(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the array backing this list, which is not copied.
+     *
+     * @return the entries of this list.
+     */
+    public short[] array() {
+        return values;
+    }
+
+    @Override
+    public Tag getAt(int index) {
+        return ShortTag.create(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    long entriesSize(NBTStream stream) {
+        return (long) values.length * Short.BYTES;
+    }
+
+    @Override
+    ListTag copyWith(int index, ShortTag entry) {
+        var copy = Arrays.copyOf(values, Math.max(values.length, index + 1));
+        copy[index] = entry.primitiveValue();
+        return new ShortListTag(copy);
+    }
+
+    @Override
+    int entriesHash() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    boolean sameEntries(Object other) {
+        return Arrays.equals(values, ((ShortListTag) other).values);
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * A {@link Tag} that stores a {@code short} value.
@@ -55,6 +56,11 @@ public class ShortTag implements Tag {
         return TagType.TAG_Short;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return Short.BYTES;
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof ShortTag tag) {
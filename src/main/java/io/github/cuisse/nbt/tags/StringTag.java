@@ -2,6 +2,7 @@ package io.github.cuisse.nbt.tags;
 
 import io.github.cuisse.nbt.Tag;
 import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.io.NBTStream;
 
 /**
  * A {@link Tag} that contains a {@link String} value.
@@ -43,6 +44,11 @@ public class StringTag implements Tag {
         return TagType.TAG_String;
     }
 
+    @Override
+    public int encodedSize(NBTStream stream) {
+        return EncodedSize.ofString(value, stream);
+    }
+
     @Override
     public int compareTo(Tag other) {
         if (other instanceof StringTag tag) {
@@ -0,0 +1,156 @@
+package io.github.cuisse.nbt.io;
+
+import io.github.cuisse.nbt.NBTException;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.TagType;
+import io.github.cuisse.nbt.tags.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NBTPushDecoderTest {
+
+    private static final List<NamedTag> TAGS = List.of(
+            new NamedTag("root", CompoundTag.builder()
+                    .putByte("byte", (byte) -3)
+                    .putShort("short", (short) 1234)
+                    .putInt("int", -123456789)
+                    .putLong("long", Long.MIN_VALUE)
+                    .putFloat("float", 1.5f)
+                    .putDouble("double", -2.25)
+                    .putString("string", "héllo wörld")
+                    .putByteArray("bytes", new byte[] { 1, -2, 3 })
+                    .putIntArray("ints", new int[] { 0, -1, 300, Integer.MAX_VALUE, Integer.MIN_VALUE })
+                    .putLongArray("longs", new long[] { 0, -1, 1L << 40, Long.MAX_VALUE })
+                    .put("intList", IntListTag.create(5, -6, 7))
+                    .put("compounds", ListTag.create(TagType.TAG_Compound,
+                            CompoundTag.create("id", StringTag.create("a")),
+                            CompoundTag.create("id", StringTag.create("b"), "count", IntTag.create(64))))
+                    .put("lists", ListTag.create(TagType.TAG_List,
+                            ListTag.create(TagType.TAG_String, StringTag.create("x")),
+                            ListTag.DEFAULT))
+                    .put("empty", CompoundTag.DEFAULT)
+                    .put("nested", CompoundTag.create("deeper", CompoundTag.create("deepest", LongTag.create(42))))
+                    .build()),
+            new NamedTag("value", IntTag.create(7)),
+            new NamedTag("", ListTag.create(TagType.TAG_Long, LongTag.create(1), LongTag.create(2)))
+    );
+
+    private static byte[] encode(NBTStream type, List<NamedTag> tags, boolean named) {
+        var output = switch (type) {
+            case LITTLE_ENDIAN -> new LittleEndianNBTOutputBuffer();
+            case BIG_ENDIAN    -> new BigEndianNBTOutputBuffer();
+            case VARINT        -> new VarIntNBTOutputBuffer();
+        };
+        var writer = new SimpleNBTWriter();
+        for (var tag : tags) {
+            if (named) {
+                writer.write(output, tag);
+            } else {
+                writer.write(output, tag.tag());
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static List<NamedTag> drain(NBTPushDecoder decoder) {
+        var tags = new ArrayList<NamedTag>();
+        for (NamedTag tag; (tag = decoder.poll()) != null; ) {
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    @Test
+    void byteAtATime() {
+        for (var type : NBTStream.values()) {
+            byte[] data = encode(type, TAGS, true);
+            var decoder = new NBTPushDecoder(type);
+            var decoded = new ArrayList<NamedTag>();
+            for (int i = 0; i < data.length; i++) {
+                decoder.feed(data, i, 1);
+                decoded.addAll(drain(decoder));
+            }
+            assertFalse(decoder.isPartial(), type.name());
+            assertEquals(TAGS, decoded, type.name());
+        }
+    }
+
+    @Test
+    void unnamedByteAtATime() {
+        for (var type : NBTStream.values()) {
+            byte[] data = encode(type, TAGS, false);
+            var decoder = new NBTPushDecoder(type, false);
+            var decoded = new ArrayList<Tag>();
+            for (int i = 0; i < data.length; i++) {
+                decoder.feed(ByteBuffer.wrap(data, i, 1));
+                for (var tag : drain(decoder)) {
+                    assertEquals("", tag.name());
+                    decoded.add(tag.tag());
+                }
+            }
+            assertEquals(TAGS.stream().map(NamedTag::tag).toList(), decoded, type.name());
+        }
+    }
+
+    @Test
+    void everySplit() {
+        for (var type : NBTStream.values()) {
+            byte[] data = encode(type, TAGS, true);
+            var boundaries = new ArrayList<Integer>();
+            for (int i = 0; i <= TAGS.size(); i++) {
+                boundaries.add(encode(type, TAGS.subList(0, i), true).length);
+            }
+            for (int split = 0; split <= data.length; split++) {
+                var decoder = new NBTPushDecoder(type);
+                decoder.feed(data, 0, split);
+                var decoded = drain(decoder);
+                assertEquals(!boundaries.contains(split), decoder.isPartial(), type.name() + " split at " + split);
+                decoder.feed(data, split, data.length - split);
+                decoded.addAll(drain(decoder));
+                assertEquals(TAGS, decoded, type.name() + " split at " + split);
+            }
+        }
+    }
+
+    @Test
+    void rejectsValuesOverTheBufferedMaximum() {
+        for (var type : NBTStream.values()) {
+            var tag = new NamedTag("data", ByteArrayTag.create(new byte[4096]));
+            byte[] data = encode(type, List.of(tag), true);
+
+            var limited = new NBTPushDecoder(type, true, 1024);
+            assertThrows(NBTException.class, () -> {
+                for (int i = 0; i < data.length; i++) {
+                    limited.feed(data, i, 1);
+                }
+            }, type.name());
+
+            var decoder = new NBTPushDecoder(type, true, 8192);
+            for (int i = 0; i < data.length; i += 100) {
+                decoder.feed(data, i, Math.min(100, data.length - i));
+            }
+            assertEquals(tag, decoder.poll(), type.name());
+        }
+    }
+
+    @Test
+    void fedAtOnceIsNotLimited() {
+        var tag = new NamedTag("data", ByteArrayTag.create(new byte[4096]));
+        byte[] data = encode(NBTStream.LITTLE_ENDIAN, List.of(tag), true);
+        var decoder = new NBTPushDecoder(NBTStream.LITTLE_ENDIAN, true, 1024);
+        decoder.feed(data, 0, data.length);
+        assertEquals(tag, decoder.poll());
+    }
+
+    @Test
+    void rejectsNonPositiveMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> new NBTPushDecoder(NBTStream.VARINT, true, 0));
+    }
+
+}
@@ -0,0 +1,196 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.NBT;
+import io.github.cuisse.nbt.NamedTag;
+import io.github.cuisse.nbt.Tag;
+import io.github.cuisse.nbt.io.LittleEndianNBTOutputBuffer;
+import io.github.cuisse.nbt.io.NBTStream;
+import io.github.cuisse.nbt.io.SimpleNBTReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentCompoundTagTest {
+
+    private static CompoundTag compound(int size) {
+        var builder = CompoundTag.builder(size);
+        for (int i = 0; i < size; i++) {
+            builder.put("key" + i, IntTag.create(i));
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Tag> entries(CompoundTag compound) {
+        var map = new HashMap<String, Tag>();
+        compound.forEach(map::put);
+        return map;
+    }
+
+    private static void assertEntries(Map<String, Tag> expected, CompoundTag actual) {
+        assertEquals(expected.size(), actual.size());
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), actual.get(entry.getKey()), entry.getKey());
+        }
+        var iterated = new HashMap<String, Tag>();
+        for (var entry : actual) {
+            assertNull(iterated.put(entry.getKey(), entry.getValue()), "repeated " + entry.getKey());
+        }
+        assertEquals(expected, iterated);
+        var cursored = new HashMap<String, Tag>();
+        for (var cursor = actual.cursor(); cursor.next(); ) {
+            assertNull(cursored.put(cursor.name(), cursor.tag()), "repeated " + cursor.name());
+        }
+        assertEquals(expected, cursored);
+        assertEquals(expected, entries(actual));
+    }
+
+    @Test
+    void smallCompoundsAreCopied() {
+        var compound = compound(4);
+        var updated = compound.with("key1", IntTag.create(-1));
+        assertFalse(updated instanceof PersistentCompoundTag);
+        assertEquals(IntTag.create(1), compound.get("key1"));
+        assertEquals(IntTag.create(-1), updated.get("key1"));
+    }
+
+    @Test
+    void smallLazyCompoundsKeepTheirOrder() {
+        var names = List.of("id", "Count", "Slot", "tag", "zeta", "alpha");
+        var builder = CompoundTag.builder();
+        for (int i = 0; i < names.size(); i++) {
+            builder.put(names.get(i), IntTag.create(i));
+        }
+        var output = new LittleEndianNBTOutputBuffer();
+        NBT.writer().write(output, new NamedTag("", builder.build()));
+        var lazy = (CompoundTag) new SimpleNBTReader(true).read(NBT.input(NBTStream.LITTLE_ENDIAN, output.toByteArray(), false)).tag();
+        assertFalse(lazy.getClass() == CompoundTag.class);
+
+        var updated = lazy.with("Count", IntTag.create(64));
+        assertEquals(names, List.copyOf(updated.value().keySet()));
+        assertEquals(IntTag.create(64), updated.get("Count"));
+        var removed = lazy.without("tag");
+        assertEquals(List.of("id", "Count", "Slot", "zeta", "alpha"), List.copyOf(removed.value().keySet()));
+    }
+
+    @Test
+    void largeCompoundsBecomeTries() {
+        var compound = compound(40);
+        var updated = compound.with("extra", IntTag.create(40));
+        assertInstanceOf(PersistentCompoundTag.class, updated);
+        var expected = entries(compound);
+        expected.put("extra", IntTag.create(40));
+        assertEntries(expected, updated);
+        assertEquals(40, compound.size());
+        assertNull(compound.get("extra"));
+    }
+
+    @Test
+    void withReplacesWithoutGrowing() {
+        var compound = compound(40).with("key7", IntTag.create(-7));
+        assertEquals(40, compound.size());
+        assertEquals(IntTag.create(-7), compound.get("key7"));
+        var same = IntTag.create(-7);
+        var updated = compound.with("key8", same);
+        assertSame(updated, updated.with("key8", same));
+    }
+
+    @Test
+    void withoutRemovesAndShrinks() {
+        var compound = compound(40).with("extra", IntTag.create(0));
+        var removed = compound.without("key3");
+        assertEquals(40, removed.size());
+        assertNull(removed.get("key3"));
+        assertEquals(IntTag.create(3), compound.get("key3"));
+        assertSame(removed, removed.without("key3"));
+        assertSame(removed, removed.without(null));
+        CompoundTag shrinking = removed;
+        for (var name : entries(removed).keySet()) {
+            shrinking = shrinking.without(name);
+        }
+        assertEquals(0, shrinking.size());
+        assertFalse(shrinking.iterator().hasNext());
+    }
+
+    @Test
+    void collidingNames() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        CompoundTag compound = compound(40).with("Aa", IntTag.create(1)).with("BB", IntTag.create(2));
+        assertEquals(42, compound.size());
+        assertEquals(IntTag.create(1), compound.get("Aa"));
+        assertEquals(IntTag.create(2), compound.get("BB"));
+
+        var replaced = compound.with("BB", IntTag.create(3));
+        assertEquals(42, replaced.size());
+        assertEquals(IntTag.create(1), replaced.get("Aa"));
+        assertEquals(IntTag.create(3), replaced.get("BB"));
+        assertEquals(IntTag.create(2), compound.get("BB"));
+
+        var withoutAa = compound.without("Aa");
+        assertEquals(41, withoutAa.size());
+        assertNull(withoutAa.get("Aa"));
+        assertEquals(IntTag.create(2), withoutAa.get("BB"));
+        var withoutBoth = withoutAa.without("BB");
+        assertEquals(40, withoutBoth.size());
+        assertNull(withoutBoth.get("BB"));
+        assertEquals(compound(40), withoutBoth);
+    }
+
+    @Test
+    void manyCollidingNames() {
+        var names = new String[] { "AaAa", "AaBB", "BBAa", "BBBB" };
+        CompoundTag compound = compound(40);
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[0].hashCode(), names[i].hashCode());
+            compound = compound.with(names[i], IntTag.create(i));
+        }
+        var expected = entries(compound(40));
+        for (int i = 0; i < names.length; i++) {
+            expected.put(names[i], IntTag.create(i));
+        }
+        assertEntries(expected, compound);
+        for (var name : names) {
+            compound = compound.without(name);
+            expected.remove(name);
+            assertEntries(expected, compound);
+        }
+    }
+
+    @Test
+    void equalsPlainCompound() {
+        var plain = compound(50);
+        CompoundTag persistent = compound(49).with("key49", IntTag.create(49));
+        assertInstanceOf(PersistentCompoundTag.class, persistent);
+        assertEquals(plain, persistent);
+        assertEquals(persistent, plain);
+        assertEquals(plain.hashCode(), persistent.hashCode());
+    }
+
+    @Test
+    void randomUpdatesMatchMap() {
+        var random = new Random(42);
+        var model = new HashMap<String, Tag>();
+        CompoundTag compound = CompoundTag.DEFAULT;
+        for (int i = 0; i < 20_000; i++) {
+            // colliding prefixes keep some names in the collision nodes
+            String name = (random.nextBoolean() ? "Aa" : "BB") + random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                model.remove(name);
+                compound = compound.without(name);
+            } else {
+                var tag = IntTag.create(i);
+                model.put(name, tag);
+                compound = compound.with(name, tag);
+            }
+            if (i % 1000 == 0) {
+                assertEntries(model, compound);
+            }
+        }
+        assertEntries(model, compound);
+    }
+
+}
@@ -0,0 +1,126 @@
+package io.github.cuisse.nbt.tags;
+
+import io.github.cuisse.nbt.TagType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentListTagTest {
+
+    // the tail holds 32 entries, then each level of the trie multiplies the capacity by 32
+    private static final int[] BOUNDARIES = { 0, 1, 31, 32, 33, 63, 64, 65, 1055, 1056, 1057, 32799, 32800, 32801, 33000 };
+
+    private static StringTag entry(int index) {
+        return StringTag.create("entry" + index);
+    }
+
+    private static ListTag plain(int size) {
+        var builder = ListTag.builder(TagType.TAG_String, size);
+        for (int i = 0; i < size; i++) {
+            builder.add(entry(i));
+        }
+        return builder.build();
+    }
+
+    private static void assertEntries(int size, ListTag list) {
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(entry(i), list.getAt(i));
+        }
+        int index = 0;
+        for (var tag : list.value()) {
+            assertEquals(entry(index++), tag);
+        }
+        assertEquals(size, index);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getAt(size));
+    }
+
+    @Test
+    void appendAcrossLevels() {
+        ListTag list = ListTag.DEFAULT;
+        var snapshots = new ArrayList<ListTag>();
+        int next = 0;
+        for (int size = 0; size <= BOUNDARIES[BOUNDARIES.length - 1]; size++) {
+            if (size == BOUNDARIES[next]) {
+                snapshots.add(list);
+                next++;
+            }
+            list = list.append(entry(size));
+        }
+        assertInstanceOf(PersistentListTag.class, list);
+        for (int i = 0; i < BOUNDARIES.length; i++) {
+            assertEntries(BOUNDARIES[i], snapshots.get(i)); // older versions are unchanged
+        }
+    }
+
+    @Test
+    void copyAndSetAcrossLevels() {
+        for (int size : BOUNDARIES) {
+            if (size == 0) {
+                continue;
+            }
+            var original = plain(size);
+            var indices = List.of(0, size / 2, size - 1, Math.min(size - 1, 31), Math.min(size - 1, 32), Math.min(size - 1, 1055), Math.min(size - 1, 1056));
+            ListTag updated = original;
+            for (int index : indices) {
+                updated = updated.set(index, StringTag.create("set" + index));
+            }
+            for (int i = 0; i < size; i++) {
+                var expected = indices.contains(i) ? StringTag.create("set" + i) : entry(i);
+                assertEquals(expected, updated.getAt(i), "size " + size + ", index " + i);
+            }
+            assertEntries(size, original);
+            if (size >= 32) {
+                assertInstanceOf(PersistentListTag.class, updated);
+            }
+        }
+    }
+
+    @Test
+    void appendAfterCopy() {
+        for (int size : BOUNDARIES) {
+            if (size < 32) {
+                continue;
+            }
+            var list = plain(size).append(entry(size));
+            assertInstanceOf(PersistentListTag.class, list);
+            assertEntries(size + 2, list.append(StringTag.create("x")).set(size + 1, entry(size + 1)));
+            assertEntries(size + 1, list);
+        }
+    }
+
+    @Test
+    void setOnPersistentList() {
+        ListTag list = plain(40).append(entry(40));
+        for (int i = 41; i < 2000; i++) {
+            list = list.append(entry(i));
+        }
+        var updated = list.set(1056, StringTag.create("changed")).set(1999, StringTag.create("last"));
+        assertEquals(StringTag.create("changed"), updated.getAt(1056));
+        assertEquals(StringTag.create("last"), updated.getAt(1999));
+        assertEquals(entry(1055), updated.getAt(1055));
+        assertEntries(2000, list);
+    }
+
+    @Test
+    void rejectsOtherTypes() {
+        var list = plain(40).append(entry(40));
+        assertThrows(IllegalArgumentException.class, () -> list.append(IntTag.create(1)));
+        assertThrows(IllegalArgumentException.class, () -> list.set(0, IntTag.create(1)));
+        assertThrows(IllegalArgumentException.class, () -> list.append(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(41, entry(0)));
+    }
+
+    @Test
+    void equalsPlainList() {
+        var persistent = plain(1500).append(entry(1500));
+        var plain = plain(1501);
+        assertEquals(plain, persistent);
+        assertEquals(persistent, plain);
+        assertEquals(plain.hashCode(), persistent.hashCode());
+    }
+
+}